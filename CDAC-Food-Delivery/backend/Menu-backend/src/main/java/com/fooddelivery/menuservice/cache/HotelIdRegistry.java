@@ -0,0 +1,136 @@
+package com.fooddelivery.menuservice.cache;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.fooddelivery.menuservice.clients.HotelServiceClient;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import feign.FeignException;
+
+/**
+ * Local copy of the hotel ids known to hotel-service, used to validate
+ * Menu.hotelId on writes without a remote call per item.
+ *
+ * The id set is refreshed from GET /api/hotels/ids. A Bloom filter in front of
+ * the sorted array answers most misses without a search. Hotels pushed by
+ * hotel-service between refreshes are tracked on the side. An id that is still
+ * missing is checked once against hotel-service, and the answer is cached
+ * briefly so a bulk import with a bad id makes one call, not thousands.
+ *
+ * Fails open: until the first refresh succeeds, or when hotel-service cannot be
+ * reached, every id is accepted.
+ */
+@Component
+public class HotelIdRegistry {
+
+    private static final Logger log = LoggerFactory.getLogger(HotelIdRegistry.class);
+
+    private static final double BLOOM_FALSE_POSITIVE_RATE = 0.01;
+
+    private final HotelServiceClient hotelServiceClient;
+    private final Set<Long> added = ConcurrentHashMap.newKeySet();
+    private final Set<Long> removed = ConcurrentHashMap.newKeySet();
+    private final Cache<Long, Boolean> remoteChecks;
+    private volatile Snapshot snapshot;
+
+    public HotelIdRegistry(HotelServiceClient hotelServiceClient,
+                           @Value("${menu.hotel-ids.remote-check-ttl:PT1M}") Duration remoteCheckTtl) {
+        this.hotelServiceClient = hotelServiceClient;
+        this.remoteChecks = Caffeine.newBuilder()
+                .maximumSize(10_000)
+                .expireAfterWrite(remoteCheckTtl)
+                .build();
+    }
+
+    public boolean exists(Long hotelId) {
+        if (hotelId == null || removed.contains(hotelId)) {
+            return false;
+        }
+        if (added.contains(hotelId)) {
+            return true;
+        }
+        Snapshot current = snapshot;
+        if (current == null) {
+            return true;
+        }
+        if (current.contains(hotelId)) {
+            return true;
+        }
+        return remoteChecks.get(hotelId, this::existsRemotely);
+    }
+
+    /** A hotel created in hotel-service since the last refresh. */
+    public void add(Long hotelId) {
+        removed.remove(hotelId);
+        added.add(hotelId);
+        remoteChecks.invalidate(hotelId);
+    }
+
+    public void remove(Long hotelId) {
+        added.remove(hotelId);
+        removed.add(hotelId);
+        remoteChecks.invalidate(hotelId);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${menu.hotel-ids.refresh-ms:60000}",
+            initialDelayString = "${menu.hotel-ids.refresh-ms:60000}")
+    public void refresh() {
+        List<Long> ids;
+        try {
+            ids = hotelServiceClient.getHotelIds();
+        } catch (Exception e) {
+            log.warn("Could not refresh hotel ids: {}", e.getMessage());
+            return;
+        }
+        Snapshot fresh = new Snapshot(ids);
+        snapshot = fresh;
+        // The side sets only have to cover what the new snapshot does not know yet
+        added.removeIf(fresh::contains);
+        removed.removeIf(id -> !fresh.contains(id));
+        remoteChecks.invalidateAll();
+    }
+
+    private boolean existsRemotely(Long hotelId) {
+        try {
+            hotelServiceClient.getHotelById(hotelId);
+            return true;
+        } catch (FeignException.NotFound e) {
+            return false;
+        } catch (Exception e) {
+            log.warn("Could not check hotel {}: {}", hotelId, e.getMessage());
+            return true;
+        }
+    }
+
+    private static final class Snapshot {
+
+        private final long[] ids;
+        private final BloomFilter bloom;
+
+        Snapshot(List<Long> hotelIds) {
+            this.ids = hotelIds.stream().mapToLong(Long::longValue).sorted().toArray();
+            this.bloom = new BloomFilter(ids.length, BLOOM_FALSE_POSITIVE_RATE);
+            for (long id : ids) {
+                bloom.add(id);
+            }
+        }
+
+        boolean contains(long id) {
+            return bloom.mightContain(id) && Arrays.binarySearch(ids, id) >= 0;
+        }
+    }
+}
@@ -0,0 +1,289 @@
+package com.fooddelivery.menuservice.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fooddelivery.menuservice.dto.MenuResponseDTO;
+import com.fooddelivery.menuservice.enums.FoodType;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.ToLongFunction;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Read-through cache of each hotel's menu. Every cached menu carries the
+ * persisted menu version it was read at (menu_versions, bumped by every menu
+ * write), which backs a strong ETag that is the same on every instance and
+ * across restarts, so a conditional GET is answered with 304 from the cache
+ * without touching the database or Jackson.
+ *
+ * Writes made on this instance update or drop the entry right away. Writes
+ * made on another instance are picked up by re-checking the persisted version
+ * (a primary-key read) at most every menu.cache.recheck per hotel; entries
+ * are also rebuilt menu.cache.ttl after they were loaded, however often read.
+ *
+ * Alongside the DTOs, every cached menu keeps its HTTP bodies ready to send:
+ * UTF-8 JSON for the whole menu and for each FoodType view, and (with
+ * menu.cache.gzip=true) their gzip encodings. They are built once per load,
+ * so a read is a map lookup and a byte copy.
+ *
+ * Availability lives in a per-hotel bitset next to the pre-serialized items.
+ * A toggle flips bits and re-stitches the bodies; the menu is not reloaded.
+ */
+@Component
+public class HotelMenuCache {
+
+    private final Cache<Long, HotelMenu> menus;
+    private final ObjectMapper objectMapper;
+    private final boolean gzip;
+    private final long recheckNanos;
+
+    public HotelMenuCache(ObjectMapper objectMapper,
+                          MeterRegistry meterRegistry,
+                          @Value("${menu.cache.max-hotels:2000}") long maxHotels,
+                          @Value("${menu.cache.ttl:PT30M}") Duration ttl,
+                          @Value("${menu.cache.gzip:true}") boolean gzip,
+                          @Value("${menu.cache.recheck:PT5S}") Duration recheck) {
+        this.objectMapper = objectMapper;
+        this.gzip = gzip;
+        this.recheckNanos = recheck.toNanos();
+        this.menus = Caffeine.newBuilder()
+                .maximumSize(maxHotels)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, menus, "menu.hotel");
+    }
+
+    /**
+     * Returns the hotel's menu, loading it on a miss. If the entry has not been
+     * checked for menu.cache.recheck, currentVersion is asked for the persisted
+     * version and a menu that fell behind (written on another instance) is reloaded.
+     */
+    public HotelMenu get(Long hotelId, Function<Long, MenuData> loader, ToLongFunction<Long> currentVersion) {
+        HotelMenu menu = menus.get(hotelId, id -> build(loader.apply(id)));
+        if (!menu.recheckDue(recheckNanos)) {
+            return menu;
+        }
+        if (currentVersion.applyAsLong(hotelId) <= menu.version()) {
+            menu.checked();
+            return menu;
+        }
+        menus.asMap().remove(hotelId, menu);
+        return menus.get(hotelId, id -> build(loader.apply(id)));
+    }
+
+    public static String etag(Long hotelId, long version) {
+        return "\"" + hotelId + "-" + version + "\"";
+    }
+
+    // The gzip bytes are a different representation, so they need their own strong ETag
+    public static String gzipEtag(Long hotelId, long version) {
+        return "\"" + hotelId + "-" + version + "-gz\"";
+    }
+
+    /**
+     * Applies an availability toggle to the cached menu in place, without a reload.
+     * Call after the update has committed, with the menu version it produced. If the
+     * menu is being loaded right now, this waits for the load and then applies the
+     * toggle to its result.
+     *
+     * In-place updates are only safe in version order: if the cached menu is not at
+     * version - 1 (another write landed in between, or toggles committed out of
+     * order) it is dropped and reloaded instead.
+     */
+    public void setAvailability(Long hotelId, Predicate<MenuResponseDTO> items, boolean available, long version) {
+        menus.asMap().computeIfPresent(hotelId, (id, menu) -> {
+            if (menu.version() == version) {
+                return menu; // loaded after the toggle committed, already up to date
+            }
+            if (menu.version() != version - 1) {
+                return null;
+            }
+            menu.setAvailability(items, available, version);
+            return menu;
+        });
+    }
+
+    /** Call after the write has committed. */
+    public void invalidate(Long hotelId) {
+        if (hotelId == null) {
+            return;
+        }
+        menus.invalidate(hotelId);
+    }
+
+    private HotelMenu build(MenuData data) {
+        List<MenuResponseDTO> items = List.copyOf(data.items());
+        byte[][] fragments = new byte[items.size()][];
+        BitSet available = new BitSet(items.size());
+        for (int i = 0; i < items.size(); i++) {
+            MenuResponseDTO item = items.get(i);
+            if (!Boolean.FALSE.equals(item.getIsAvailable())) {
+                available.set(i);
+            }
+            fragments[i] = fragment(item);
+        }
+        return new HotelMenu(data.version(), items, fragments, available, gzip);
+    }
+
+    // The item's JSON without isAvailable and without the closing brace
+    private byte[] fragment(MenuResponseDTO item) {
+        MenuResponseDTO withoutAvailability = new MenuResponseDTO(item.getId(), item.getName(),
+                item.getDescription(), item.getPrice(), item.getImageUrl(), item.getCategory(),
+                item.getFoodType(), null);
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(withoutAvailability);
+            return Arrays.copyOf(json, json.length - 1);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize menu item " + item.getId(), e);
+        }
+    }
+
+    private static byte[] gzip(byte[] json) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(json.length / 4 + 64);
+        try (GZIPOutputStream zip = new GZIPOutputStream(out)) {
+            zip.write(json);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * One hotel's cached menu. Items are held as pre-serialized JSON fragments plus
+     * an availability bitset; the response bodies are stitched together from both
+     * and re-stitched only after availability changes.
+     */
+    public static final class HotelMenu {
+
+        private static final byte[] AVAILABLE = ",\"isAvailable\":true}".getBytes(StandardCharsets.UTF_8);
+        private static final byte[] UNAVAILABLE = ",\"isAvailable\":false}".getBytes(StandardCharsets.UTF_8);
+
+        private final List<MenuResponseDTO> items;
+        private final byte[][] fragments;
+        private final BitSet available; // guarded by this
+        private final boolean gzip;
+        private volatile long version; // persisted menu version; written under this
+        private volatile Rendered rendered;
+        private volatile long checkedAt = System.nanoTime();
+
+        HotelMenu(long version, List<MenuResponseDTO> items, byte[][] fragments, BitSet available, boolean gzip) {
+            this.items = items;
+            this.fragments = fragments;
+            this.available = available;
+            this.gzip = gzip;
+            this.version = version;
+            render();
+        }
+
+        /** The persisted menu version (see MenuChangeLog) this snapshot reflects. */
+        public long version() {
+            return version;
+        }
+
+        boolean recheckDue(long intervalNanos) {
+            return System.nanoTime() - checkedAt > intervalNanos;
+        }
+
+        void checked() {
+            checkedAt = System.nanoTime();
+        }
+
+        /** Items with their current availability. */
+        public synchronized List<MenuResponseDTO> items() {
+            List<MenuResponseDTO> current = new ArrayList<>(items.size());
+            for (int i = 0; i < items.size(); i++) {
+                MenuResponseDTO item = items.get(i);
+                current.add(new MenuResponseDTO(item.getId(), item.getName(), item.getDescription(),
+                        item.getPrice(), item.getImageUrl(), item.getCategory(), item.getFoodType(),
+                        available.get(i)));
+            }
+            return current;
+        }
+
+        /** Pre-serialized body for the whole menu (type == null) or one FoodType view. */
+        public SerializedMenu view(FoodType type) {
+            Rendered current = rendered;
+            if (current.version() != version) {
+                current = render();
+            }
+            return type == null ? current.all() : current.byType().get(type);
+        }
+
+        synchronized void setAvailability(Predicate<MenuResponseDTO> match, boolean value, long newVersion) {
+            for (int i = 0; i < items.size(); i++) {
+                if (available.get(i) != value && match.test(items.get(i))) {
+                    available.set(i, value);
+                }
+            }
+            version = newVersion;
+        }
+
+        private synchronized Rendered render() {
+            Rendered current = rendered;
+            if (current != null && current.version() == version) {
+                return current;
+            }
+            Map<FoodType, SerializedMenu> byType = new EnumMap<>(FoodType.class);
+            for (FoodType type : FoodType.values()) {
+                byType.put(type, serialize(type));
+            }
+            current = new Rendered(version, serialize(null), byType);
+            rendered = current;
+            return current;
+        }
+
+        private SerializedMenu serialize(FoodType type) {
+            int size = 2;
+            for (byte[] fragment : fragments) {
+                size += fragment.length + UNAVAILABLE.length + 1;
+            }
+            ByteArrayOutputStream out = new ByteArrayOutputStream(type == null ? size : size / 2);
+            out.write('[');
+            boolean first = true;
+            for (int i = 0; i < fragments.length; i++) {
+                if (type != null && items.get(i).getFoodType() != type) {
+                    continue;
+                }
+                if (!first) {
+                    out.write(',');
+                }
+                out.writeBytes(fragments[i]);
+                out.writeBytes(available.get(i) ? AVAILABLE : UNAVAILABLE);
+                first = false;
+            }
+            out.write(']');
+            byte[] json = out.toByteArray();
+            return new SerializedMenu(json, gzip ? gzip(json) : null, version);
+        }
+    }
+
+    private record Rendered(long version, SerializedMenu all, Map<FoodType, SerializedMenu> byType) {
+    }
+
+    /** What the loader returns: the items read at the given persisted menu version. */
+    public record MenuData(long version, List<MenuResponseDTO> items) {
+    }
+
+    /** UTF-8 JSON body, its gzip encoding when enabled (null otherwise), and the menu version. */
+    public record SerializedMenu(byte[] json, byte[] gzip, long version) {
+    }
+}
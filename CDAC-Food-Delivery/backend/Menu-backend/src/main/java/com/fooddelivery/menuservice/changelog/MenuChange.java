@@ -0,0 +1,39 @@
+package com.fooddelivery.menuservice.changelog;
+
+import java.time.Instant;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Entity
+@Table(name = "menu_changes", indexes = {
+        @Index(name = "idx_menu_changes_hotel_version", columnList = "hotel_id, version"),
+        @Index(name = "idx_menu_changes_changed_at", columnList = "changed_at")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+public class MenuChange {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "hotel_id", nullable = false)
+    private Long hotelId;
+
+    @Column(nullable = false)
+    private Long version;
+
+    @Column(name = "menu_id", nullable = false)
+    private Long menuId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "change_type", nullable = false, length = 10)
+    private MenuChangeType changeType;
+
+    @Column(name = "changed_at", nullable = false)
+    private Instant changedAt;
+}
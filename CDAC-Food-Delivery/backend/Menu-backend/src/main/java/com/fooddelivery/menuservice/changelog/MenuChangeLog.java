@@ -0,0 +1,84 @@
+package com.fooddelivery.menuservice.changelog;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Per-hotel menu versions and the log of which items changed at each version.
+ *
+ * A write bumps the hotel's row in menu_versions and appends its item ids to
+ * menu_changes in the writer's own transaction. The row lock taken by the bump
+ * orders concurrent writers of a hotel, so versions commit in sequence and a
+ * reader never sees version N+1 without N.
+ */
+@Component
+public class MenuChangeLog {
+
+    private static final Logger log = LoggerFactory.getLogger(MenuChangeLog.class);
+
+    private static final String BUMP_SQL =
+            "insert into menu_versions (hotel_id, version, compacted_through) values (?, 1, 0) "
+                    + "on duplicate key update version = version + 1";
+    private static final String INSERT_CHANGE_SQL =
+            "insert into menu_changes (hotel_id, version, menu_id, change_type, changed_at) values (?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Duration retention;
+
+    public MenuChangeLog(JdbcTemplate jdbcTemplate,
+                         @Value("${menu.changes.retention:P7D}") Duration retention) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.retention = retention;
+    }
+
+    /** Records a change to the given items of one hotel and returns the hotel's new version. */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public long record(Long hotelId, MenuChangeType type, Collection<Long> menuIds) {
+        jdbcTemplate.update(BUMP_SQL, hotelId);
+        Long version = jdbcTemplate.queryForObject(
+                "select version from menu_versions where hotel_id = ?", Long.class, hotelId);
+        Timestamp now = Timestamp.from(Instant.now());
+        List<Object[]> rows = new ArrayList<>(menuIds.size());
+        for (Long menuId : menuIds) {
+            rows.add(new Object[] { hotelId, version, menuId, type.name(), now });
+        }
+        if (!rows.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_CHANGE_SQL, rows);
+        }
+        return version;
+    }
+
+    /**
+     * Drops changes older than menu.changes.retention. Each hotel remembers the
+     * newest version it lost, so clients behind that point are told to resync.
+     */
+    @Scheduled(cron = "${menu.changes.compact-cron:0 0 4 * * *}")
+    @Transactional
+    public void compact() {
+        Timestamp cutoff = Timestamp.from(Instant.now().minus(retention));
+        jdbcTemplate.update("""
+                update menu_versions v
+                join (select hotel_id, max(version) as max_version
+                      from menu_changes where changed_at < ? group by hotel_id) c
+                  on c.hotel_id = v.hotel_id
+                set v.compacted_through = greatest(v.compacted_through, c.max_version)
+                """, cutoff);
+        int purged = jdbcTemplate.update("delete from menu_changes where changed_at < ?", cutoff);
+        if (purged > 0) {
+            log.info("Compacted menu change log: {} entries older than {}", purged, retention);
+        }
+    }
+}
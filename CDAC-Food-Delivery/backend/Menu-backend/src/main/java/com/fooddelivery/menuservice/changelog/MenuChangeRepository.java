@@ -0,0 +1,12 @@
+package com.fooddelivery.menuservice.changelog;
+
+import java.util.List;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface MenuChangeRepository extends JpaRepository<MenuChange, Long> {
+
+    List<MenuChange> findByHotelIdAndVersionBetweenOrderByVersionAsc(Long hotelId, Long fromVersion,
+                                                                    Long toVersion, Limit limit);
+}
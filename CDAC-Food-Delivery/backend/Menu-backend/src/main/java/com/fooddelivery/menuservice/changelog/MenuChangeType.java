@@ -0,0 +1,6 @@
+package com.fooddelivery.menuservice.changelog;
+
+public enum MenuChangeType {
+    UPSERT,
+    DELETE
+}
@@ -0,0 +1,26 @@
+package com.fooddelivery.menuservice.changelog;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+// Current menu version of one hotel; bumped in the same transaction as every menu write
+@Entity
+@Table(name = "menu_versions")
+@Getter
+@Setter
+@NoArgsConstructor
+public class MenuVersion {
+
+    @Id
+    @Column(name = "hotel_id")
+    private Long hotelId;
+
+    @Column(nullable = false)
+    private Long version;
+
+    // Changes up to and including this version have been purged from menu_changes
+    @Column(name = "compacted_through", nullable = false)
+    private Long compactedThrough;
+}
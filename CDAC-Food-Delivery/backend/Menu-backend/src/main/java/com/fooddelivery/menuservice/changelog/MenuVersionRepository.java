@@ -0,0 +1,6 @@
+package com.fooddelivery.menuservice.changelog;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface MenuVersionRepository extends JpaRepository<MenuVersion, Long> {
+}
@@ -1,11 +1,14 @@
 package com.fooddelivery.menuservice.clients;
 
+import com.fooddelivery.menuservice.clients.dto.HotelSummaryDTO;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 
+import java.util.List;
+
 @FeignClient(name = "hotel-service")
 public interface HotelServiceClient {
 
@@ -15,6 +18,14 @@ public interface HotelServiceClient {
     @GetMapping("/api/hotels")
     Object getAllHotels();
 
+    // Ids of all hotels, for validating Menu.hotelId
+    @GetMapping("/api/hotels/ids")
+    List<Long> getHotelIds();
+
+    // Same endpoint, typed for the search index
+    @GetMapping("/api/hotels")
+    List<HotelSummaryDTO> listHotels();
+
     @PostMapping("/api/hotels")
     Object createHotel(@RequestBody Object hotelRequest);
 }
@@ -0,0 +1,19 @@
+package com.fooddelivery.menuservice.clients.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// Hotel as listed by hotel-service GET /api/hotels
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class HotelSummaryDTO {
+    private Long id;
+    private String name;
+    private String cuisine;
+    private String location;
+    private Double rating;
+    private Integer price;
+    private String imageUrl;
+}
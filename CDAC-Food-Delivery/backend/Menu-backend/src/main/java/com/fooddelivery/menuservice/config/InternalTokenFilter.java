@@ -0,0 +1,60 @@
+package com.fooddelivery.menuservice.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.core.env.Profiles;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+
+/**
+ * Requires the shared internal.token in the X-Internal-Token header on every
+ * /internal/** request. The gateway already refuses those paths; this also
+ * covers callers that reach the service port directly.
+ *
+ * The development token that application.properties falls back to is only
+ * accepted without an active profile (or with "dev"), so a deployment that
+ * forgot INTERNAL_TOKEN fails at startup instead of running with a public secret.
+ */
+@Component
+public class InternalTokenFilter extends OncePerRequestFilter {
+
+    public static final String HEADER = "X-Internal-Token";
+    static final String DEV_TOKEN = "local-dev-internal-token";
+
+    private final byte[] token;
+
+    public InternalTokenFilter(@Value("${internal.token}") String token, Environment environment) {
+        if (token.isBlank()) {
+            throw new IllegalStateException("internal.token must be set");
+        }
+        // The fallback in application.properties is public; only a local run may use it
+        if (DEV_TOKEN.equals(token) && !environment.acceptsProfiles(Profiles.of("default", "dev"))) {
+            throw new IllegalStateException("internal.token is the built-in development token; set INTERNAL_TOKEN");
+        }
+        this.token = token.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !request.getServletPath().startsWith("/internal/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String presented = request.getHeader(HEADER);
+        if (presented == null || !MessageDigest.isEqual(token, presented.getBytes(StandardCharsets.UTF_8))) {
+            response.sendError(HttpServletResponse.SC_FORBIDDEN);
+            return;
+        }
+        chain.doFilter(request, response);
+    }
+}
@@ -0,0 +1,36 @@
+package com.fooddelivery.menuservice.controller;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * If-None-Match evaluation for GET (RFC 9110 13.1.2): "*" matches any current
+ * representation, otherwise the header is a comma-separated list of entity
+ * tags, weak (W/"...") or strong, compared with weak comparison.
+ */
+final class EntityTags {
+
+    private static final Pattern ENTITY_TAG = Pattern.compile("\\s*(?:W/)?(\"[^\"]*\")\\s*(?:,|$)");
+
+    private EntityTags() {
+    }
+
+    static boolean noneMatch(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+            return true;
+        }
+        if (ifNoneMatch.trim().equals("*")) {
+            return false;
+        }
+        String opaque = etag.startsWith("W/") ? etag.substring(2) : etag;
+        Matcher matcher = ENTITY_TAG.matcher(ifNoneMatch);
+        int end = 0;
+        while (end < ifNoneMatch.length() && matcher.find(end) && matcher.start() == end) {
+            if (matcher.group(1).equals(opaque)) {
+                return false;
+            }
+            end = matcher.end();
+        }
+        return true;
+    }
+}
@@ -1,35 +1,143 @@
 package com.fooddelivery.menuservice.controller;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
+import java.util.Map;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import com.fooddelivery.menuservice.cache.HotelMenuCache;
+import com.fooddelivery.menuservice.cache.HotelMenuCache.SerializedMenu;
+import com.fooddelivery.menuservice.dto.AvailabilityUpdateRequest;
+import com.fooddelivery.menuservice.dto.MenuChangesDTO;
+import com.fooddelivery.menuservice.dto.MenuImportResultDTO;
 import com.fooddelivery.menuservice.dto.MenuResponseDTO;
+import com.fooddelivery.menuservice.dto.MenuSummaryDTO;
 import com.fooddelivery.menuservice.entity.Menu;
+import com.fooddelivery.menuservice.service.MenuImportService;
 import com.fooddelivery.menuservice.service.MenuService;
 
 @RestController
 @RequestMapping("/api/menu")
 public class MenuController {
 
+    // Menu version of a full menu response; the starting point for /changes?since=
+    static final String MENU_VERSION_HEADER = "X-Menu-Version";
+
+    private static final MediaType TEXT_CSV = new MediaType("text", "csv");
+
     private final MenuService menuService;
+    private final MenuImportService menuImportService;
 
-    public MenuController(MenuService menuService) {
+    public MenuController(MenuService menuService, MenuImportService menuImportService) {
         this.menuService = menuService;
+        this.menuImportService = menuImportService;
     }
 
     @GetMapping
-    public List<MenuResponseDTO> getMenu(@RequestParam Long hotelId) {
-        return menuService.getMenuByHotel(hotelId);
+    public ResponseEntity<byte[]> getMenu(
+            @RequestParam Long hotelId,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        return menuResponse(hotelId, null, ifNoneMatch, acceptEncoding);
     }
 
+    // Any mix of foodType, category, price range and availability. A foodType-only
+    // filter is served from the cached bytes; the rest are answered by the database.
     @GetMapping("/filter")
-    public List<MenuResponseDTO> getMenuByType(
+    public ResponseEntity<?> filterMenu(
             @RequestParam Long hotelId,
-            @RequestParam String foodType) {
-        return menuService.getMenuByHotelAndFoodType(hotelId, foodType);
+            @RequestParam(required = false) String foodType,
+            @RequestParam(required = false) String category,
+            @RequestParam(required = false) Integer minPrice,
+            @RequestParam(required = false) Integer maxPrice,
+            @RequestParam(required = false) Boolean available,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        try {
+            if (category == null && minPrice == null && maxPrice == null && available == null) {
+                return menuResponse(hotelId, foodType, ifNoneMatch, acceptEncoding);
+            }
+            // Every filtered view changes only when the hotel's menu does, so the same ETag applies
+            String etag = menuService.getMenuETag(hotelId);
+            if (!EntityTags.noneMatch(ifNoneMatch, etag)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+            }
+            List<MenuResponseDTO> items = menuService.filterMenu(hotelId, foodType, category,
+                    minPrice, maxPrice, available);
+            return ResponseEntity.ok().eTag(etag).body(items);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
+    // Writes the cached JSON bytes as-is; no per-request object mapping
+    private ResponseEntity<byte[]> menuResponse(Long hotelId, String foodType,
+                                                String ifNoneMatch, String acceptEncoding) {
+        // The ETag names the exact menu version and encoding of these bytes; both come from the cache
+        SerializedMenu body = menuService.getMenuJson(hotelId, foodType);
+        boolean gzip = body.gzip() != null && acceptEncoding != null && acceptEncoding.contains("gzip");
+        String etag = gzip ? HotelMenuCache.gzipEtag(hotelId, body.version())
+                : HotelMenuCache.etag(hotelId, body.version());
+        if (!EntityTags.noneMatch(ifNoneMatch, etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag)
+                    .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING)
+                    .build();
+        }
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .eTag(etag)
+                .header(MENU_VERSION_HEADER, Long.toString(body.version()))
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            return response.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(body.gzip());
+        }
+        return response.body(body.json());
+    }
+
+    // Bulk import as NDJSON (one Menu object per line) or CSV with a header row
+    @PostMapping(value = "/import", consumes = { "application/x-ndjson", "text/csv" })
+    public ResponseEntity<?> importMenus(@RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+                                         InputStream body) {
+        MenuImportService.Format format = MediaType.parseMediaType(contentType).isCompatibleWith(TEXT_CSV)
+                ? MenuImportService.Format.CSV
+                : MenuImportService.Format.NDJSON;
+        try {
+            MenuImportResultDTO result = menuImportService.importMenus(body, format);
+            return ResponseEntity.ok(result);
+        } catch (IOException e) {
+            return ResponseEntity.badRequest().body("Could not read upload: " + e.getMessage());
+        }
+    }
+
+    @GetMapping("/changes")
+    public ResponseEntity<MenuChangesDTO> getMenuChanges(@RequestParam Long hotelId, @RequestParam long since) {
+        return ResponseEntity.ok(menuService.getMenuChanges(hotelId, since));
+    }
+
+    @GetMapping("/batch")
+    public ResponseEntity<List<MenuSummaryDTO>> getMenusByIds(@RequestParam List<Long> ids) {
+        try {
+            return ResponseEntity.ok(menuService.getMenusByIds(ids));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    // Bulk sold-out / back-in-stock for items and whole categories of one hotel
+    @PatchMapping("/availability")
+    public ResponseEntity<?> updateAvailability(@RequestBody AvailabilityUpdateRequest request) {
+        try {
+            int updated = menuService.updateAvailability(request);
+            return ResponseEntity.ok(Map.of("updated", updated));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
     }
 
     @GetMapping("/{id}")
@@ -0,0 +1,44 @@
+package com.fooddelivery.menuservice.controller;
+
+import java.util.List;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import com.fooddelivery.menuservice.dto.SearchResponseDTO;
+import com.fooddelivery.menuservice.service.SearchService;
+
+@RestController
+@RequestMapping("/api/search")
+public class SearchController {
+
+    private final SearchService searchService;
+
+    public SearchController(SearchService searchService) {
+        this.searchService = searchService;
+    }
+
+    @GetMapping
+    public ResponseEntity<?> search(@RequestParam String q,
+                                    @RequestParam(required = false) String foodType,
+                                    @RequestParam(defaultValue = "20") int limit) {
+        try {
+            SearchResponseDTO result = searchService.search(q, foodType, limit);
+            return ResponseEntity.ok(result);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body("Invalid foodType: " + foodType);
+        }
+    }
+
+    @GetMapping("/autocomplete")
+    public ResponseEntity<?> autocomplete(@RequestParam String q,
+                                          @RequestParam(required = false) String foodType,
+                                          @RequestParam(defaultValue = "8") int limit) {
+        try {
+            List<String> suggestions = searchService.autocomplete(q, foodType, limit);
+            return ResponseEntity.ok(suggestions);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body("Invalid foodType: " + foodType);
+        }
+    }
+}
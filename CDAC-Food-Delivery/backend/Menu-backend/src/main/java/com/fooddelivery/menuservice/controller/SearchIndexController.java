@@ -0,0 +1,42 @@
+package com.fooddelivery.menuservice.controller;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import com.fooddelivery.menuservice.cache.HotelIdRegistry;
+import com.fooddelivery.menuservice.clients.dto.HotelSummaryDTO;
+import com.fooddelivery.menuservice.service.SearchService;
+
+// Called by hotel-service after hotel writes. Refused by the gateway and guarded by
+// InternalTokenFilter, like every /internal/** endpoint.
+// Keeps both the search index and the hotel id registry current.
+@RestController
+@RequestMapping("/internal/search/hotels")
+public class SearchIndexController {
+
+    private final SearchService searchService;
+    private final HotelIdRegistry hotelIdRegistry;
+
+    public SearchIndexController(SearchService searchService, HotelIdRegistry hotelIdRegistry) {
+        this.searchService = searchService;
+        this.hotelIdRegistry = hotelIdRegistry;
+    }
+
+    @PutMapping
+    public ResponseEntity<Void> indexHotel(@RequestBody HotelSummaryDTO hotel) {
+        try {
+            searchService.indexHotel(hotel);
+            hotelIdRegistry.add(hotel.getId());
+            return ResponseEntity.noContent().build();
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Void> removeHotel(@PathVariable Long id) {
+        searchService.removeHotel(id);
+        hotelIdRegistry.remove(id);
+        return ResponseEntity.noContent().build();
+    }
+}
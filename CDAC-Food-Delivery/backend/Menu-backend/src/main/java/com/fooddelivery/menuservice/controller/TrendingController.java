@@ -0,0 +1,28 @@
+package com.fooddelivery.menuservice.controller;
+
+import java.util.List;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import com.fooddelivery.menuservice.dto.TrendingDishDTO;
+import com.fooddelivery.menuservice.service.TrendingService;
+
+@RestController
+@RequestMapping("/api/menu/trending")
+public class TrendingController {
+
+    private final TrendingService trendingService;
+
+    public TrendingController(TrendingService trendingService) {
+        this.trendingService = trendingService;
+    }
+
+    // Most ordered dishes recently: for one hotel, for a city, or overall
+    @GetMapping
+    public ResponseEntity<List<TrendingDishDTO>> getTrending(@RequestParam(required = false) Long hotelId,
+                                                             @RequestParam(required = false) String city,
+                                                             @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(trendingService.getTrending(hotelId, city, limit));
+    }
+}
@@ -0,0 +1,27 @@
+package com.fooddelivery.menuservice.controller;
+
+import java.util.List;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import com.fooddelivery.menuservice.dto.OrderEventDTO;
+import com.fooddelivery.menuservice.service.TrendingService;
+
+// Order events relayed by hotel-service's outbox. Refused by the gateway and guarded by InternalTokenFilter.
+@RestController
+@RequestMapping("/internal/trending")
+public class TrendingEventsController {
+
+    private final TrendingService trendingService;
+
+    public TrendingEventsController(TrendingService trendingService) {
+        this.trendingService = trendingService;
+    }
+
+    @PostMapping("/orders")
+    public ResponseEntity<Void> recordOrders(@RequestBody List<OrderEventDTO> events) {
+        trendingService.recordOrders(events);
+        return ResponseEntity.noContent().build();
+    }
+}
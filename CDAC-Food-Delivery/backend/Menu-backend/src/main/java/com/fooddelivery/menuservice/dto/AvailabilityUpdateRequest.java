@@ -0,0 +1,19 @@
+package com.fooddelivery.menuservice.dto;
+
+import java.util.List;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+// Body of PATCH /api/menu/availability; itemIds and categories may be combined
+@Getter
+@Setter
+@NoArgsConstructor
+public class AvailabilityUpdateRequest {
+
+    private Long hotelId;
+    private Boolean available;
+    private List<Long> itemIds;
+    private List<String> categories;
+}
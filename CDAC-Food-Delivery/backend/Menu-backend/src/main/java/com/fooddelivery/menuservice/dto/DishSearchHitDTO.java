@@ -0,0 +1,21 @@
+package com.fooddelivery.menuservice.dto;
+
+import com.fooddelivery.menuservice.enums.FoodType;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class DishSearchHitDTO {
+
+    private Long id;
+    private Long hotelId;
+    private String hotelName;
+    private String name;
+    private String category;
+    private Integer price;
+    private FoodType foodType;
+    private Boolean isAvailable;
+    private float score;
+}
@@ -0,0 +1,17 @@
+package com.fooddelivery.menuservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class HotelSearchHitDTO {
+
+    private Long id;
+    private String name;
+    private String cuisine;
+    private String location;
+    private Double rating;
+    private String imageUrl;
+    private float score;
+}
@@ -0,0 +1,23 @@
+package com.fooddelivery.menuservice.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// Response of GET /api/menu/changes. With fullResync=true the client must re-fetch
+// GET /api/menu; otherwise it applies upserts and deletes and remembers version.
+@Getter
+@AllArgsConstructor
+public class MenuChangesDTO {
+
+    private Long hotelId;
+    private long version;
+    private boolean fullResync;
+    private List<MenuResponseDTO> upserts;
+    private List<Long> deletes;
+
+    public static MenuChangesDTO fullResync(Long hotelId, long version) {
+        return new MenuChangesDTO(hotelId, version, true, List.of(), List.of());
+    }
+}
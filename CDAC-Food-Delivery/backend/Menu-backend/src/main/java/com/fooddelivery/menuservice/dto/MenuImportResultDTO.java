@@ -0,0 +1,52 @@
+package com.fooddelivery.menuservice.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+public class MenuImportResultDTO {
+
+    private int imported;
+    private int rejected;
+    // True when the upload was malformed and reading stopped early
+    private boolean aborted;
+    private boolean errorsTruncated;
+    private final List<RowError> errors = new ArrayList<>();
+
+    @Getter(AccessLevel.NONE)
+    private final int maxErrors;
+
+    public MenuImportResultDTO(int maxErrors) {
+        this.maxErrors = maxErrors;
+    }
+
+    public void addImported(int count) {
+        imported += count;
+    }
+
+    public void reject(int row, String message) {
+        rejected++;
+        if (errors.size() < maxErrors) {
+            errors.add(new RowError(row, message));
+        } else {
+            errorsTruncated = true;
+        }
+    }
+
+    public void abort(int row, String message) {
+        aborted = true;
+        errors.add(new RowError(row, message));
+    }
+
+    // row is the 1-based data row (CSV header not counted)
+    @Getter
+    @AllArgsConstructor
+    public static class RowError {
+        private int row;
+        private String message;
+    }
+}
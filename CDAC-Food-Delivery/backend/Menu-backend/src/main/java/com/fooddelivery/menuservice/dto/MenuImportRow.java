@@ -0,0 +1,45 @@
+package com.fooddelivery.menuservice.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fooddelivery.menuservice.entity.Menu;
+import com.fooddelivery.menuservice.enums.FoodType;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+// One NDJSON line or CSV row of a bulk import; same field names as Menu
+@Getter
+@Setter
+@NoArgsConstructor
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class MenuImportRow {
+
+    private Long hotelId;
+    private String name;
+    private String description;
+    private Integer price;
+    private String imageUrl;
+    private String category;
+    private String foodType;
+    private Boolean isAvailable;
+
+    public Menu toMenu() {
+        Menu menu = new Menu();
+        menu.setHotelId(hotelId);
+        menu.setName(name);
+        menu.setDescription(description);
+        menu.setPrice(price);
+        menu.setImageUrl(imageUrl);
+        menu.setCategory(category);
+        menu.setIsAvailable(isAvailable);
+        if (foodType != null && !foodType.isBlank()) {
+            try {
+                menu.setFoodType(FoodType.valueOf(foodType.trim().toUpperCase()));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Invalid foodType: " + foodType);
+            }
+        }
+        return menu;
+    }
+}
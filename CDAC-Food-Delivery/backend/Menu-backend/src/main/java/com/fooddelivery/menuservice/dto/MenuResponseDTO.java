@@ -1,5 +1,6 @@
 package com.fooddelivery.menuservice.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fooddelivery.menuservice.entity.Menu;
 import com.fooddelivery.menuservice.enums.FoodType;
 import lombok.*;
@@ -16,6 +17,23 @@ public class MenuResponseDTO {
     private String category;
     private FoodType foodType;
 
+    // Left null while HotelMenuCache serializes the item; the cached menu fills it in from its bitset
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Boolean isAvailable;
+
+    // Used by JPQL constructor projections, so no Menu entity is loaded
+    public MenuResponseDTO(Long id, String name, String description, Integer price,
+                           String imageUrl, String category, FoodType foodType, Boolean isAvailable) {
+        this.id = id;
+        this.name = name;
+        this.description = description;
+        this.price = price;
+        this.imageUrl = imageUrl;
+        this.category = category;
+        this.foodType = foodType;
+        this.isAvailable = isAvailable;
+    }
+
     public MenuResponseDTO(Menu menu) {
         this.id = menu.getId();
         this.name = menu.getName();
@@ -24,5 +42,6 @@ public class MenuResponseDTO {
         this.imageUrl = menu.getImageUrl();
         this.category = menu.getCategory();
         this.foodType = menu.getFoodType();
+        this.isAvailable = menu.getIsAvailable();
     }
 }
@@ -0,0 +1,26 @@
+package com.fooddelivery.menuservice.dto;
+
+import com.fooddelivery.menuservice.entity.Menu;
+import com.fooddelivery.menuservice.enums.FoodType;
+import lombok.*;
+
+@Getter
+@Setter
+public class MenuSummaryDTO {
+
+    private Long id;
+    private Long hotelId;
+    private String name;
+    private Integer price;
+    private FoodType foodType;
+    private Boolean isAvailable;
+
+    public MenuSummaryDTO(Menu menu) {
+        this.id = menu.getId();
+        this.hotelId = menu.getHotelId();
+        this.name = menu.getName();
+        this.price = menu.getPrice();
+        this.foodType = menu.getFoodType();
+        this.isAvailable = menu.getIsAvailable();
+    }
+}
@@ -0,0 +1,31 @@
+package com.fooddelivery.menuservice.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// Order event as published by hotel-service; only the fields trending needs
+@Data
+@NoArgsConstructor
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class OrderEventDTO {
+
+    public static final String ORDER_CREATED = "ORDER_CREATED";
+
+    private Long eventId;
+    private String type;
+    private LocalDateTime occurredAt;
+    private List<Item> items;
+
+    @Data
+    @NoArgsConstructor
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class Item {
+        private Long menuItemId;
+        private Integer quantity;
+    }
+}
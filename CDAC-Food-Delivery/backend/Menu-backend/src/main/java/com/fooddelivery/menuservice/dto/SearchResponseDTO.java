@@ -0,0 +1,14 @@
+package com.fooddelivery.menuservice.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class SearchResponseDTO {
+
+    private List<DishSearchHitDTO> dishes;
+    private List<HotelSearchHitDTO> restaurants;
+}
@@ -0,0 +1,17 @@
+package com.fooddelivery.menuservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class TrendingDishDTO {
+
+    private Long menuItemId;
+    private Long hotelId;
+    private String hotelName;
+    private String name;
+    private Integer price;
+    // Estimated quantity ordered within the trending window
+    private int orders;
+}
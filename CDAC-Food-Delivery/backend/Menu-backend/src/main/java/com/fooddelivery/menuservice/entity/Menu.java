@@ -6,7 +6,17 @@ import jakarta.persistence.*;
 import lombok.*;
 
 @Entity
-@Table(name = "menu")
+@Table(name = "menu", indexes = {
+        // Serves the per-hotel reads and the composite filter; price last so
+        // range predicates are checked in the index before touching rows.
+        // Deliberately not covering: name, description and image_url are
+        // VARCHAR(255) utf8mb4 (1020 bytes each), which with category would
+        // exceed InnoDB's 3072-byte index key limit. The index narrows a read
+        // to one hotel's matching rows, so the remaining primary-key lookups
+        // are a few hundred at most.
+        @Index(name = "idx_menu_hotel_filter",
+                columnList = "hotel_id, food_type, is_available, category, price")
+})
 @Getter
 @Setter
 @NoArgsConstructor
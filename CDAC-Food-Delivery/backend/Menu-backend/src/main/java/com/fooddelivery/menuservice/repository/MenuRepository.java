@@ -1,9 +1,15 @@
 package com.fooddelivery.menuservice.repository;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import com.fooddelivery.menuservice.dto.MenuResponseDTO;
 import com.fooddelivery.menuservice.entity.Menu;
 import com.fooddelivery.menuservice.enums.FoodType;
 
@@ -12,4 +18,59 @@ public interface MenuRepository extends JpaRepository<Menu, Long> {
     List<Menu> findByHotelId(Long hotelId);
 
     List<Menu> findByHotelIdAndFoodType(Long hotelId, FoodType foodType);
+
+    // Constructor projection: rows go straight into DTOs, nothing enters the
+    // persistence context. A null argument leaves that condition out.
+    @Transactional(readOnly = true)
+    @Query("""
+            select new com.fooddelivery.menuservice.dto.MenuResponseDTO(
+                m.id, m.name, m.description, m.price, m.imageUrl, m.category, m.foodType, m.isAvailable)
+            from Menu m
+            where m.hotelId = :hotelId
+              and (:foodType is null or m.foodType = :foodType)
+              and (:available is null or m.isAvailable = :available)
+              and (:category is null or m.category = :category)
+              and (:minPrice is null or m.price >= :minPrice)
+              and (:maxPrice is null or m.price <= :maxPrice)
+            order by m.id
+            """)
+    List<MenuResponseDTO> findMenuResponses(@Param("hotelId") Long hotelId,
+                                            @Param("foodType") FoodType foodType,
+                                            @Param("available") Boolean available,
+                                            @Param("category") String category,
+                                            @Param("minPrice") Integer minPrice,
+                                            @Param("maxPrice") Integer maxPrice);
+
+    @Transactional(readOnly = true)
+    @Query("""
+            select new com.fooddelivery.menuservice.dto.MenuResponseDTO(
+                m.id, m.name, m.description, m.price, m.imageUrl, m.category, m.foodType, m.isAvailable)
+            from Menu m
+            where m.hotelId = :hotelId and m.id in :ids
+            order by m.id
+            """)
+    List<MenuResponseDTO> findMenuResponsesByIds(@Param("hotelId") Long hotelId,
+                                                 @Param("ids") Collection<Long> ids);
+
+    @Query("""
+            select m.id from Menu m
+            where m.hotelId = :hotelId
+              and (m.id in :ids or m.category in :categories)
+            """)
+    List<Long> findIdsByHotelAndIdsOrCategories(@Param("hotelId") Long hotelId,
+                                                @Param("ids") Collection<Long> ids,
+                                                @Param("categories") Collection<String> categories);
+
+    // One statement for any number of items and whole categories of a hotel
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("""
+            update Menu m set m.isAvailable = :available
+            where m.hotelId = :hotelId
+              and (m.id in :ids or m.category in :categories)
+            """)
+    int updateAvailability(@Param("hotelId") Long hotelId,
+                           @Param("ids") Collection<Long> ids,
+                           @Param("categories") Collection<String> categories,
+                           @Param("available") boolean available);
 }
@@ -0,0 +1,121 @@
+package com.fooddelivery.menuservice.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * Term -> (document id -> weight) postings, kept in a sorted map so that a
+ * prefix lookup is a range scan over the terms starting with it.
+ *
+ * Writers are serialized; readers never lock and may briefly see a document
+ * half-way through a re-index, which is fine for search.
+ */
+class InvertedIndex {
+
+    // A prefix-only match ranks below the whole word
+    static final float PREFIX_FACTOR = 0.6f;
+
+    // Bounds the work done for very short prefixes such as "a"
+    private static final int MAX_PREFIX_TERMS = 500;
+
+    private final ConcurrentSkipListMap<String, Map<Long, Float>> postings = new ConcurrentSkipListMap<>();
+    private final Map<Long, Map<String, Float>> termsByDoc = new ConcurrentHashMap<>();
+
+    synchronized void put(long docId, Map<String, Float> terms) {
+        remove(docId);
+        terms.forEach((term, weight) ->
+                postings.computeIfAbsent(term, t -> new ConcurrentHashMap<>()).put(docId, weight));
+        termsByDoc.put(docId, Map.copyOf(terms));
+    }
+
+    synchronized void remove(long docId) {
+        Map<String, Float> terms = termsByDoc.remove(docId);
+        if (terms == null) {
+            return;
+        }
+        for (String term : terms.keySet()) {
+            postings.computeIfPresent(term, (t, docs) -> {
+                docs.remove(docId);
+                return docs.isEmpty() ? null : docs;
+            });
+        }
+    }
+
+    synchronized void clear() {
+        postings.clear();
+        termsByDoc.clear();
+    }
+
+    int size() {
+        return termsByDoc.size();
+    }
+
+    /**
+     * Documents matching every token (AND), scored by the sum of the matched
+     * term weights. With prefixLast the final token also matches longer terms,
+     * which is what makes search-as-you-type work.
+     */
+    Map<Long, Float> match(List<String> tokens, boolean prefixLast) {
+        Map<Long, Float> scores = null;
+        for (int i = 0; i < tokens.size(); i++) {
+            String token = tokens.get(i);
+            Map<Long, Float> tokenScores = prefixLast && i == tokens.size() - 1
+                    ? prefixMatch(token)
+                    : postings.getOrDefault(token, Map.of());
+            if (scores == null) {
+                scores = new HashMap<>(tokenScores);
+            } else {
+                scores.keySet().retainAll(tokenScores.keySet());
+                scores.replaceAll((doc, score) -> score + tokenScores.get(doc));
+            }
+            if (scores.isEmpty()) {
+                break;
+            }
+        }
+        return scores == null ? Map.of() : scores;
+    }
+
+    private Map<Long, Float> prefixMatch(String prefix) {
+        Map<Long, Float> scores = new HashMap<>();
+        int terms = 0;
+        for (Map.Entry<String, Map<Long, Float>> entry
+                : postings.subMap(prefix, true, prefix + Character.MAX_VALUE, false).entrySet()) {
+            float factor = entry.getKey().length() == prefix.length() ? 1f : PREFIX_FACTOR;
+            entry.getValue().forEach((doc, weight) -> scores.merge(doc, weight * factor, Math::max));
+            if (++terms >= MAX_PREFIX_TERMS) {
+                break;
+            }
+        }
+        return scores;
+    }
+
+    /** Lower-cased, accent-free alphanumeric words. */
+    static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null || text.isBlank()) {
+            return tokens;
+        }
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFD)
+                .replaceAll("\\p{M}", "")
+                .toLowerCase(Locale.ROOT);
+        for (String token : normalized.split("[^\\p{L}\\p{N}]+")) {
+            if (!token.isEmpty()) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+
+    /** Adds the field's words to terms, keeping the highest weight per word. */
+    static void addField(Map<String, Float> terms, String text, float weight) {
+        for (String token : tokenize(text)) {
+            terms.merge(token, weight, Math::max);
+        }
+    }
+}
@@ -0,0 +1,249 @@
+package com.fooddelivery.menuservice.search;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.ToDoubleFunction;
+
+import org.springframework.stereotype.Component;
+
+import com.fooddelivery.menuservice.clients.dto.HotelSummaryDTO;
+import com.fooddelivery.menuservice.dto.DishSearchHitDTO;
+import com.fooddelivery.menuservice.dto.HotelSearchHitDTO;
+import com.fooddelivery.menuservice.dto.SearchResponseDTO;
+import com.fooddelivery.menuservice.entity.Menu;
+import com.fooddelivery.menuservice.enums.FoodType;
+
+/**
+ * In-memory search over dishes (Menu name/description/category) and
+ * restaurants (Hotel name/cuisine/location). Kept current by the menu write
+ * path and by hotel-service pushes, so a query never reaches the database.
+ */
+@Component
+public class MenuSearchIndex {
+
+    static final float DISH_NAME = 3f;
+    static final float DISH_CATEGORY = 1.5f;
+    static final float DISH_DESCRIPTION = 1f;
+    static final float HOTEL_NAME = 3f;
+    static final float HOTEL_CUISINE = 2f;
+    static final float HOTEL_LOCATION = 1.5f;
+
+    // Sold-out dishes still show up, just below the ones that can be ordered
+    private static final float UNAVAILABLE_FACTOR = 0.5f;
+
+    private final InvertedIndex dishIndex = new InvertedIndex();
+    private final InvertedIndex hotelIndex = new InvertedIndex();
+    private final Map<Long, Dish> dishes = new ConcurrentHashMap<>();
+    private final Map<Long, HotelSummaryDTO> hotels = new ConcurrentHashMap<>();
+    private final Map<Long, Set<Long>> dishIdsByHotel = new HashMap<>(); // guarded by this
+
+    // hotelId -> number of dishes of each type, for veg/non-veg restaurant filtering
+    private final Map<FoodType, Map<Long, Integer>> dishCounts = new EnumMap<>(FoodType.class);
+
+    public MenuSearchIndex() {
+        for (FoodType type : FoodType.values()) {
+            dishCounts.put(type, new ConcurrentHashMap<>());
+        }
+    }
+
+    public synchronized void indexMenu(Menu menu) {
+        removeMenu(menu.getId());
+        Dish dish = new Dish(menu.getId(), menu.getHotelId(), menu.getName(), menu.getCategory(),
+                menu.getPrice(), menu.getFoodType(), !Boolean.FALSE.equals(menu.getIsAvailable()));
+        Map<String, Float> terms = new HashMap<>();
+        InvertedIndex.addField(terms, menu.getDescription(), DISH_DESCRIPTION);
+        InvertedIndex.addField(terms, menu.getCategory(), DISH_CATEGORY);
+        InvertedIndex.addField(terms, menu.getName(), DISH_NAME);
+        dishes.put(dish.id(), dish);
+        dishIndex.put(dish.id(), terms);
+        dishIdsByHotel.computeIfAbsent(dish.hotelId(), id -> new HashSet<>()).add(dish.id());
+        if (dish.foodType() != null) {
+            dishCounts.get(dish.foodType()).merge(dish.hotelId(), 1, Integer::sum);
+        }
+    }
+
+    public synchronized void removeMenu(Long menuId) {
+        Dish dish = dishes.remove(menuId);
+        if (dish == null) {
+            return;
+        }
+        dishIndex.remove(menuId);
+        Set<Long> hotelDishes = dishIdsByHotel.get(dish.hotelId());
+        if (hotelDishes != null && hotelDishes.remove(menuId) && hotelDishes.isEmpty()) {
+            dishIdsByHotel.remove(dish.hotelId());
+        }
+        if (dish.foodType() != null) {
+            dishCounts.get(dish.foodType()).computeIfPresent(dish.hotelId(), (id, n) -> n > 1 ? n - 1 : null);
+        }
+    }
+
+    public synchronized void replaceMenus(Collection<Menu> menus) {
+        dishIndex.clear();
+        dishes.clear();
+        dishIdsByHotel.clear();
+        dishCounts.values().forEach(Map::clear);
+        menus.forEach(this::indexMenu);
+    }
+
+    /** Availability only affects ranking, so the terms are left as they are. */
+    public synchronized void updateAvailability(Long hotelId, Set<Long> ids, Set<String> lowerCaseCategories,
+                                                boolean available) {
+        for (Long id : dishIdsByHotel.getOrDefault(hotelId, Set.of())) {
+            Dish dish = dishes.get(id);
+            if (dish != null && dish.available() != available && (ids.contains(id)
+                    || (dish.category() != null
+                        && lowerCaseCategories.contains(dish.category().toLowerCase(Locale.ROOT))))) {
+                dishes.put(id, new Dish(dish.id(), dish.hotelId(), dish.name(), dish.category(),
+                        dish.price(), dish.foodType(), available));
+            }
+        }
+    }
+
+    public synchronized void indexHotel(HotelSummaryDTO hotel) {
+        Map<String, Float> terms = new HashMap<>();
+        InvertedIndex.addField(terms, hotel.getLocation(), HOTEL_LOCATION);
+        InvertedIndex.addField(terms, hotel.getCuisine(), HOTEL_CUISINE);
+        InvertedIndex.addField(terms, hotel.getName(), HOTEL_NAME);
+        hotels.put(hotel.getId(), hotel);
+        hotelIndex.put(hotel.getId(), terms);
+    }
+
+    public synchronized void removeHotel(Long hotelId) {
+        hotels.remove(hotelId);
+        hotelIndex.remove(hotelId);
+    }
+
+    /** Re-indexes changed hotels and drops the ones that no longer exist. */
+    public synchronized void replaceHotels(Collection<HotelSummaryDTO> current) {
+        Set<Long> stale = new HashSet<>(hotels.keySet());
+        for (HotelSummaryDTO hotel : current) {
+            stale.remove(hotel.getId());
+            if (!hotel.equals(hotels.get(hotel.getId()))) {
+                indexHotel(hotel);
+            }
+        }
+        stale.forEach(this::removeHotel);
+    }
+
+    public SearchResponseDTO search(String query, FoodType foodType, int limit) {
+        List<String> tokens = InvertedIndex.tokenize(query);
+        if (tokens.isEmpty() || limit <= 0) {
+            return new SearchResponseDTO(List.of(), List.of());
+        }
+
+        Map<Long, Float> dishScores = dishIndex.match(tokens, true);
+        List<Map.Entry<Long, Float>> topDishes = top(dishScores.entrySet(), limit, entry -> {
+            Dish dish = dishes.get(entry.getKey());
+            if (dish == null || (foodType != null && dish.foodType() != foodType)) {
+                return -1f;
+            }
+            return dish.available() ? entry.getValue() : entry.getValue() * UNAVAILABLE_FACTOR;
+        });
+
+        Map<Long, Float> hotelScores = hotelIndex.match(tokens, true);
+        Map<Long, Integer> hotelsWithType = foodType == null ? null : dishCounts.get(foodType);
+        List<Map.Entry<Long, Float>> topHotels = top(hotelScores.entrySet(), limit, entry -> {
+            HotelSummaryDTO hotel = hotels.get(entry.getKey());
+            if (hotel == null || (hotelsWithType != null && !hotelsWithType.containsKey(entry.getKey()))) {
+                return -1f;
+            }
+            // Rating only breaks ties between equally relevant restaurants
+            double rating = hotel.getRating() == null ? 0 : hotel.getRating();
+            return entry.getValue() + (float) (rating / 100);
+        });
+
+        List<DishSearchHitDTO> dishHits = new ArrayList<>(topDishes.size());
+        for (Map.Entry<Long, Float> entry : topDishes) {
+            Dish dish = dishes.get(entry.getKey());
+            if (dish != null) {
+                HotelSummaryDTO hotel = hotels.get(dish.hotelId());
+                dishHits.add(new DishSearchHitDTO(dish.id(), dish.hotelId(),
+                        hotel == null ? null : hotel.getName(), dish.name(), dish.category(),
+                        dish.price(), dish.foodType(), dish.available(), entry.getValue()));
+            }
+        }
+        List<HotelSearchHitDTO> hotelHits = new ArrayList<>(topHotels.size());
+        for (Map.Entry<Long, Float> entry : topHotels) {
+            HotelSummaryDTO hotel = hotels.get(entry.getKey());
+            if (hotel != null) {
+                hotelHits.add(new HotelSearchHitDTO(hotel.getId(), hotel.getName(), hotel.getCuisine(),
+                        hotel.getLocation(), hotel.getRating(), hotel.getImageUrl(), entry.getValue()));
+            }
+        }
+        return new SearchResponseDTO(dishHits, hotelHits);
+    }
+
+    /** Restaurant names, then dish names, that complete the query. */
+    public List<String> suggest(String prefix, FoodType foodType, int limit) {
+        SearchResponseDTO result = search(prefix, foodType, limit);
+        Set<String> seen = new HashSet<>();
+        List<String> names = new ArrayList<>();
+        result.getRestaurants().forEach(hit -> addSuggestion(hit.getName(), seen, names));
+        result.getDishes().forEach(hit -> addSuggestion(hit.getName(), seen, names));
+        return names.size() > limit ? names.subList(0, limit) : names;
+    }
+
+    private static void addSuggestion(String name, Set<String> seen, List<String> names) {
+        if (name != null && seen.add(name.toLowerCase(Locale.ROOT))) {
+            names.add(name);
+        }
+    }
+
+    /** The indexed dish with its restaurant name, or null if it is not on any menu. */
+    public DishSearchHitDTO dish(Long menuId) {
+        Dish dish = dishes.get(menuId);
+        if (dish == null) {
+            return null;
+        }
+        HotelSummaryDTO hotel = hotels.get(dish.hotelId());
+        return new DishSearchHitDTO(dish.id(), dish.hotelId(), hotel == null ? null : hotel.getName(),
+                dish.name(), dish.category(), dish.price(), dish.foodType(), dish.available(), 0f);
+    }
+
+    public HotelSummaryDTO hotel(Long hotelId) {
+        return hotels.get(hotelId);
+    }
+
+    public int dishCount() {
+        return dishIndex.size();
+    }
+
+    public int hotelCount() {
+        return hotelIndex.size();
+    }
+
+    // Bounded min-heap; scorer returns a negative score to drop an entry
+    private static List<Map.Entry<Long, Float>> top(Collection<Map.Entry<Long, Float>> candidates, int limit,
+                                                    ToDoubleFunction<Map.Entry<Long, Float>> scorer) {
+        Comparator<Map.Entry<Long, Float>> order = Map.Entry.<Long, Float>comparingByValue()
+                .thenComparing(Map.Entry.<Long, Float>comparingByKey().reversed());
+        PriorityQueue<Map.Entry<Long, Float>> heap = new PriorityQueue<>(limit + 1, order);
+        for (Map.Entry<Long, Float> candidate : candidates) {
+            float score = (float) scorer.applyAsDouble(candidate);
+            if (score < 0) {
+                continue;
+            }
+            heap.offer(Map.entry(candidate.getKey(), score));
+            if (heap.size() > limit) {
+                heap.poll();
+            }
+        }
+        List<Map.Entry<Long, Float>> ranked = new ArrayList<>(heap);
+        ranked.sort(order.reversed());
+        return ranked;
+    }
+
+    private record Dish(Long id, Long hotelId, String name, String category,
+                        Integer price, FoodType foodType, boolean available) {
+    }
+}
@@ -0,0 +1,17 @@
+package com.fooddelivery.menuservice.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import com.fooddelivery.menuservice.dto.MenuImportResultDTO;
+
+public interface MenuImportService {
+
+    enum Format { NDJSON, CSV }
+
+    /**
+     * Streams menu items from the upload into the database in batches. Valid rows
+     * are imported even when others are rejected; the result lists the rejects.
+     */
+    MenuImportResultDTO importMenus(InputStream body, Format format) throws IOException;
+}
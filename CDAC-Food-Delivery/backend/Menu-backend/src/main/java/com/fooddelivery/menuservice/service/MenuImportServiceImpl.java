@@ -0,0 +1,228 @@
+package com.fooddelivery.menuservice.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.core.exc.StreamReadException;
+import com.fasterxml.jackson.databind.DatabindException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvParser;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import com.fooddelivery.menuservice.cache.HotelIdRegistry;
+import com.fooddelivery.menuservice.cache.HotelMenuCache;
+import com.fooddelivery.menuservice.changelog.MenuChangeLog;
+import com.fooddelivery.menuservice.changelog.MenuChangeType;
+import com.fooddelivery.menuservice.dto.MenuImportResultDTO;
+import com.fooddelivery.menuservice.dto.MenuImportRow;
+import com.fooddelivery.menuservice.entity.Menu;
+import com.fooddelivery.menuservice.search.MenuSearchIndex;
+
+/**
+ * Bulk menu import. Rows are pulled one at a time from a Jackson MappingIterator
+ * and written in JDBC batches of menu.import.batch-size, so memory use does not
+ * grow with the size of the upload.
+ */
+@Service
+public class MenuImportServiceImpl implements MenuImportService {
+
+    private static final Logger log = LoggerFactory.getLogger(MenuImportServiceImpl.class);
+
+    private static final String INSERT_SQL =
+            "insert into menu (hotel_id, name, description, price, image_url, category, food_type, is_available) "
+                    + "values (?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final CsvMapper CSV_MAPPER = CsvMapper.builder()
+            .enable(CsvParser.Feature.EMPTY_STRING_AS_NULL)
+            .enable(CsvParser.Feature.TRIM_SPACES)
+            .build();
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final HotelMenuCache hotelMenuCache;
+    private final HotelIdRegistry hotelIdRegistry;
+    private final MenuSearchIndex searchIndex;
+    private final MenuChangeLog menuChangeLog;
+    private final int batchSize;
+    private final int maxErrors;
+
+    public MenuImportServiceImpl(JdbcTemplate jdbcTemplate,
+                                 TransactionTemplate transactionTemplate,
+                                 ObjectMapper objectMapper,
+                                 HotelMenuCache hotelMenuCache,
+                                 HotelIdRegistry hotelIdRegistry,
+                                 MenuSearchIndex searchIndex,
+                                 MenuChangeLog menuChangeLog,
+                                 @Value("${menu.import.batch-size:500}") int batchSize,
+                                 @Value("${menu.import.max-errors:1000}") int maxErrors) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.objectMapper = objectMapper;
+        this.hotelMenuCache = hotelMenuCache;
+        this.hotelIdRegistry = hotelIdRegistry;
+        this.searchIndex = searchIndex;
+        this.menuChangeLog = menuChangeLog;
+        this.batchSize = batchSize;
+        this.maxErrors = maxErrors;
+    }
+
+    @Override
+    public MenuImportResultDTO importMenus(InputStream body, Format format) throws IOException {
+        MenuImportResultDTO result = new MenuImportResultDTO(maxErrors);
+        Set<Long> touchedHotels = new HashSet<>();
+        List<Menu> chunk = new ArrayList<>(batchSize);
+        List<Integer> chunkRows = new ArrayList<>(batchSize);
+        int row = 0;
+
+        try (MappingIterator<MenuImportRow> rows = reader(format).readValues(body)) {
+            while (true) {
+                MenuImportRow parsed;
+                row++;
+                try {
+                    if (!rows.hasNextValue()) {
+                        break;
+                    }
+                    parsed = rows.nextValue();
+                } catch (StreamReadException e) {
+                    // Broken syntax: there is no reliable way to find the next row
+                    result.abort(row, "Malformed input, import stopped: " + e.getOriginalMessage());
+                    break;
+                } catch (DatabindException e) {
+                    // Wrong value type; the iterator skips to the next row
+                    result.reject(row, e.getOriginalMessage());
+                    continue;
+                }
+
+                try {
+                    Menu menu = parsed.toMenu();
+                    MenuServiceImpl.validateAndApplyDefaults(menu);
+                    if (!hotelIdRegistry.exists(menu.getHotelId())) {
+                        throw new IllegalArgumentException("Hotel not found with id: " + menu.getHotelId());
+                    }
+                    chunk.add(menu);
+                    chunkRows.add(row);
+                } catch (IllegalArgumentException e) {
+                    result.reject(row, e.getMessage());
+                    continue;
+                }
+
+                if (chunk.size() >= batchSize) {
+                    flush(chunk, chunkRows, touchedHotels, result);
+                }
+            }
+            flush(chunk, chunkRows, touchedHotels, result);
+        } finally {
+            touchedHotels.forEach(hotelMenuCache::invalidate);
+        }
+
+        log.info("Menu import: {} imported, {} rejected, {} hotels, aborted={}",
+                result.getImported(), result.getRejected(), touchedHotels.size(), result.isAborted());
+        return result;
+    }
+
+    private ObjectReader reader(Format format) {
+        if (format == Format.CSV) {
+            return CSV_MAPPER.readerFor(MenuImportRow.class).with(CsvSchema.emptySchema().withHeader());
+        }
+        return objectMapper.readerFor(MenuImportRow.class);
+    }
+
+    private void flush(List<Menu> chunk, List<Integer> chunkRows, Set<Long> touchedHotels,
+                       MenuImportResultDTO result) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        try {
+            // One transaction per chunk, so a failed chunk leaves nothing behind
+            transactionTemplate.executeWithoutResult(status -> insertAndRecord(chunk));
+            chunk.forEach(menu -> indexInserted(menu, touchedHotels));
+            result.addImported(chunk.size());
+        } catch (DataAccessException e) {
+            // Find the offending rows by inserting the chunk one row at a time
+            for (int i = 0; i < chunk.size(); i++) {
+                Menu menu = chunk.get(i);
+                try {
+                    transactionTemplate.executeWithoutResult(status -> insertAndRecord(List.of(menu)));
+                    indexInserted(menu, touchedHotels);
+                    result.addImported(1);
+                } catch (DataAccessException rowError) {
+                    menu.setId(null);
+                    result.reject(chunkRows.get(i), rowError.getMostSpecificCause().getMessage());
+                }
+            }
+        }
+        chunk.clear();
+        chunkRows.clear();
+    }
+
+    // Inserts the rows, sets their generated ids and logs them as one change per hotel
+    private void insertAndRecord(List<Menu> menus) {
+        List<Map<String, Object>> keys = insertBatch(menus);
+        Map<Long, List<Long>> idsByHotel = new HashMap<>();
+        for (int i = 0; i < menus.size(); i++) {
+            Menu menu = menus.get(i);
+            if (i < keys.size() && !keys.get(i).isEmpty()) {
+                menu.setId(((Number) keys.get(i).values().iterator().next()).longValue());
+                idsByHotel.computeIfAbsent(menu.getHotelId(), id -> new ArrayList<>()).add(menu.getId());
+            }
+        }
+        idsByHotel.forEach((hotelId, ids) -> menuChangeLog.record(hotelId, MenuChangeType.UPSERT, ids));
+    }
+
+    private List<Map<String, Object>> insertBatch(List<Menu> menus) {
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(
+                con -> con.prepareStatement(INSERT_SQL, Statement.RETURN_GENERATED_KEYS),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        Menu menu = menus.get(i);
+                        ps.setLong(1, menu.getHotelId());
+                        ps.setString(2, menu.getName());
+                        ps.setString(3, menu.getDescription());
+                        ps.setInt(4, menu.getPrice());
+                        ps.setString(5, menu.getImageUrl());
+                        ps.setString(6, menu.getCategory());
+                        ps.setString(7, menu.getFoodType().name());
+                        ps.setBoolean(8, menu.getIsAvailable());
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return menus.size();
+                    }
+                },
+                keyHolder);
+        return keyHolder.getKeyList();
+    }
+
+    private void indexInserted(Menu menu, Set<Long> touchedHotels) {
+        touchedHotels.add(menu.getHotelId());
+        if (menu.getId() != null) {
+            searchIndex.indexMenu(menu);
+        }
+    }
+}
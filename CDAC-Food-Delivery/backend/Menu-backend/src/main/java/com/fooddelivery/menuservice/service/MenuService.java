@@ -3,7 +3,11 @@ package com.fooddelivery.menuservice.service;
 import java.util.List;
 import java.util.Optional;
 
+import com.fooddelivery.menuservice.cache.HotelMenuCache.SerializedMenu;
+import com.fooddelivery.menuservice.dto.AvailabilityUpdateRequest;
+import com.fooddelivery.menuservice.dto.MenuChangesDTO;
 import com.fooddelivery.menuservice.dto.MenuResponseDTO;
+import com.fooddelivery.menuservice.dto.MenuSummaryDTO;
 import com.fooddelivery.menuservice.entity.Menu;
 
 public interface MenuService {
@@ -12,8 +16,26 @@ public interface MenuService {
 
     List<MenuResponseDTO> getMenuByHotelAndFoodType(Long hotelId, String foodType);
 
+    /** Any combination of the filters may be null; evaluated in the database via a projection. */
+    List<MenuResponseDTO> filterMenu(Long hotelId, String foodType, String category,
+                                     Integer minPrice, Integer maxPrice, Boolean available);
+
+    /** Ready-to-send JSON for the hotel's menu, optionally narrowed to one food type. */
+    SerializedMenu getMenuJson(Long hotelId, String foodType);
+
+    /** Strong ETag for the hotel's persisted menu version; changes on every menu write for that hotel. */
+    String getMenuETag(Long hotelId);
+
+    /** Items upserted and deleted since the given menu version, or a full-resync marker. */
+    MenuChangesDTO getMenuChanges(Long hotelId, long since);
+
     Optional<Menu> getMenuById(Long id);
 
+    List<MenuSummaryDTO> getMenusByIds(List<Long> ids);
+
+    /** Sets isAvailable for the listed items and categories of one hotel; returns the rows changed. */
+    int updateAvailability(AvailabilityUpdateRequest request);
+
     Menu createMenu(Menu menu);
 
     Menu updateMenu(Long id, Menu menu);
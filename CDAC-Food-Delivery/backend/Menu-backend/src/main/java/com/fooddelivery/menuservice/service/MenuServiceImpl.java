@@ -1,40 +1,163 @@
 package com.fooddelivery.menuservice.service;
 
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import com.fooddelivery.menuservice.cache.HotelIdRegistry;
+import com.fooddelivery.menuservice.cache.HotelMenuCache;
+import com.fooddelivery.menuservice.cache.HotelMenuCache.HotelMenu;
+import com.fooddelivery.menuservice.cache.HotelMenuCache.MenuData;
+import com.fooddelivery.menuservice.cache.HotelMenuCache.SerializedMenu;
+import com.fooddelivery.menuservice.changelog.MenuChange;
+import com.fooddelivery.menuservice.changelog.MenuChangeLog;
+import com.fooddelivery.menuservice.changelog.MenuChangeRepository;
+import com.fooddelivery.menuservice.changelog.MenuChangeType;
+import com.fooddelivery.menuservice.changelog.MenuVersion;
+import com.fooddelivery.menuservice.changelog.MenuVersionRepository;
+import com.fooddelivery.menuservice.dto.AvailabilityUpdateRequest;
+import com.fooddelivery.menuservice.dto.MenuChangesDTO;
 import com.fooddelivery.menuservice.dto.MenuResponseDTO;
+import com.fooddelivery.menuservice.dto.MenuSummaryDTO;
 import com.fooddelivery.menuservice.entity.Menu;
 import com.fooddelivery.menuservice.enums.FoodType;
 import com.fooddelivery.menuservice.repository.MenuRepository;
+import com.fooddelivery.menuservice.search.MenuSearchIndex;
 
 @Service
 public class MenuServiceImpl implements MenuService {
 
+    static final int MAX_BATCH_IDS = 200;
+    static final int MAX_AVAILABILITY_IDS = 1000;
+    // Beyond this many change log entries a full re-fetch is cheaper than a delta
+    static final int MAX_DELTA_CHANGES = 1000;
+
     private final MenuRepository menuRepository;
+    private final MenuVersionRepository menuVersionRepository;
+    private final MenuChangeRepository menuChangeRepository;
+    private final MenuChangeLog menuChangeLog;
+    private final HotelMenuCache hotelMenuCache;
+    private final HotelIdRegistry hotelIdRegistry;
+    private final MenuSearchIndex searchIndex;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate readOnlyTransaction;
 
-    public MenuServiceImpl(MenuRepository menuRepository) {
+    public MenuServiceImpl(MenuRepository menuRepository,
+                           MenuVersionRepository menuVersionRepository,
+                           MenuChangeRepository menuChangeRepository,
+                           MenuChangeLog menuChangeLog,
+                           HotelMenuCache hotelMenuCache,
+                           HotelIdRegistry hotelIdRegistry,
+                           MenuSearchIndex searchIndex,
+                           TransactionTemplate transactionTemplate) {
         this.menuRepository = menuRepository;
+        this.menuVersionRepository = menuVersionRepository;
+        this.menuChangeRepository = menuChangeRepository;
+        this.menuChangeLog = menuChangeLog;
+        this.hotelMenuCache = hotelMenuCache;
+        this.hotelIdRegistry = hotelIdRegistry;
+        this.searchIndex = searchIndex;
+        this.transactionTemplate = transactionTemplate;
+        this.readOnlyTransaction = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        this.readOnlyTransaction.setReadOnly(true);
     }
 
     @Override
     public List<MenuResponseDTO> getMenuByHotel(Long hotelId) {
-        return menuRepository.findByHotelId(hotelId)
-                .stream()
-                .map(MenuResponseDTO::new)
-                .collect(Collectors.toList());
+        return cachedMenu(hotelId).items();
     }
 
     @Override
     public List<MenuResponseDTO> getMenuByHotelAndFoodType(Long hotelId, String foodType) {
         FoodType type = FoodType.valueOf(foodType.toUpperCase());
-        return menuRepository.findByHotelIdAndFoodType(hotelId, type)
+        return getMenuByHotel(hotelId)
                 .stream()
-                .map(MenuResponseDTO::new)
+                .filter(item -> item.getFoodType() == type)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<MenuResponseDTO> filterMenu(Long hotelId, String foodType, String category,
+                                            Integer minPrice, Integer maxPrice, Boolean available) {
+        if (minPrice != null && maxPrice != null && minPrice > maxPrice) {
+            throw new IllegalArgumentException("minPrice must not be greater than maxPrice");
+        }
+        FoodType type = foodType == null ? null : FoodType.valueOf(foodType.toUpperCase());
+        String trimmedCategory = category == null || category.isBlank() ? null : category.trim();
+        return menuRepository.findMenuResponses(hotelId, type, available, trimmedCategory, minPrice, maxPrice);
+    }
+
+    @Override
+    public SerializedMenu getMenuJson(Long hotelId, String foodType) {
+        FoodType type = foodType == null ? null : FoodType.valueOf(foodType.toUpperCase());
+        return cachedMenu(hotelId).view(type);
+    }
+
+    @Override
+    public String getMenuETag(Long hotelId) {
+        return HotelMenuCache.etag(hotelId, cachedMenu(hotelId).version());
+    }
+
+    private HotelMenu cachedMenu(Long hotelId) {
+        return hotelMenuCache.get(hotelId, this::loadMenu, this::currentVersion);
+    }
+
+    // Version and items come from one read-only transaction, i.e. one consistent snapshot
+    private MenuData loadMenu(Long hotelId) {
+        return readOnlyTransaction.execute(status -> new MenuData(
+                currentVersion(hotelId),
+                menuRepository.findMenuResponses(hotelId, null, null, null, null, null)));
+    }
+
+    private long currentVersion(Long hotelId) {
+        return menuVersionRepository.findById(hotelId).map(MenuVersion::getVersion).orElse(0L);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public MenuChangesDTO getMenuChanges(Long hotelId, long since) {
+        MenuVersion version = menuVersionRepository.findById(hotelId).orElse(null);
+        long current = version == null ? 0 : version.getVersion();
+        long compactedThrough = version == null ? 0 : version.getCompactedThrough();
+        if (since < compactedThrough || since > current) {
+            return MenuChangesDTO.fullResync(hotelId, current);
+        }
+        if (since == current) {
+            return new MenuChangesDTO(hotelId, current, false, List.of(), List.of());
+        }
+
+        List<MenuChange> changes = menuChangeRepository.findByHotelIdAndVersionBetweenOrderByVersionAsc(
+                hotelId, since + 1, current, Limit.of(MAX_DELTA_CHANGES + 1));
+        if (changes.size() > MAX_DELTA_CHANGES) {
+            return MenuChangesDTO.fullResync(hotelId, current);
+        }
+
+        // Only the latest change per item matters
+        Map<Long, MenuChangeType> latest = new LinkedHashMap<>();
+        changes.forEach(change -> latest.put(change.getMenuId(), change.getChangeType()));
+        List<Long> upsertIds = latest.entrySet().stream()
+                .filter(entry -> entry.getValue() == MenuChangeType.UPSERT)
+                .map(Map.Entry::getKey)
+                .collect(Collectors.toList());
+        List<MenuResponseDTO> upserts = upsertIds.isEmpty()
+                ? List.of()
+                : menuRepository.findMenuResponsesByIds(hotelId, upsertIds);
+        Set<Long> present = upserts.stream().map(MenuResponseDTO::getId).collect(Collectors.toSet());
+        List<Long> deletes = latest.keySet().stream()
+                .filter(id -> !present.contains(id))
                 .collect(Collectors.toList());
+        return new MenuChangesDTO(hotelId, current, false, upserts, deletes);
     }
 
     @Override
@@ -42,8 +165,88 @@ public class MenuServiceImpl implements MenuService {
         return menuRepository.findById(id);
     }
 
+    @Override
+    public List<MenuSummaryDTO> getMenusByIds(List<Long> ids) {
+        if (ids.size() > MAX_BATCH_IDS) {
+            throw new IllegalArgumentException("At most " + MAX_BATCH_IDS + " ids per request");
+        }
+        return menuRepository.findAllById(ids)
+                .stream()
+                .map(MenuSummaryDTO::new)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public int updateAvailability(AvailabilityUpdateRequest request) {
+        if (request.getHotelId() == null) {
+            throw new IllegalArgumentException("Hotel ID is required");
+        }
+        if (request.getAvailable() == null) {
+            throw new IllegalArgumentException("available is required");
+        }
+        Set<Long> ids = request.getItemIds() == null ? Set.of() : new HashSet<>(request.getItemIds());
+        Set<String> categories = new HashSet<>();
+        if (request.getCategories() != null) {
+            request.getCategories().stream()
+                    .filter(category -> category != null && !category.isBlank())
+                    .forEach(category -> categories.add(category.trim()));
+        }
+        if (ids.isEmpty() && categories.isEmpty()) {
+            throw new IllegalArgumentException("itemIds or categories is required");
+        }
+        if (ids.size() > MAX_AVAILABILITY_IDS) {
+            throw new IllegalArgumentException("At most " + MAX_AVAILABILITY_IDS + " itemIds per request");
+        }
+
+        Long hotelId = request.getHotelId();
+        boolean available = request.getAvailable();
+        AvailabilityChange change = transactionTemplate.execute(status -> {
+            int updated = menuRepository.updateAvailability(hotelId, ids, categories, available);
+            List<Long> matched = menuRepository.findIdsByHotelAndIdsOrCategories(hotelId, ids, categories);
+            long version = matched.isEmpty() ? -1 : menuChangeLog.record(hotelId, MenuChangeType.UPSERT, matched);
+            return new AvailabilityChange(updated, version);
+        });
+        if (change.version() < 0) {
+            return 0;
+        }
+
+        // Category matching follows the column's case-insensitive collation
+        Set<String> lowerCaseCategories = new HashSet<>();
+        categories.forEach(category -> lowerCaseCategories.add(category.toLowerCase(Locale.ROOT)));
+        hotelMenuCache.setAvailability(hotelId, item -> ids.contains(item.getId())
+                || (item.getCategory() != null
+                    && lowerCaseCategories.contains(item.getCategory().toLowerCase(Locale.ROOT))),
+                available, change.version());
+        searchIndex.updateAvailability(hotelId, ids, lowerCaseCategories, available);
+        return change.updated();
+    }
+
+    private record AvailabilityChange(int updated, long version) {
+    }
+
     @Override
     public Menu createMenu(Menu menu) {
+        validateAndApplyDefaults(menu);
+        requireKnownHotel(menu.getHotelId());
+
+        Menu saved = transactionTemplate.execute(status -> {
+            Menu inserted = menuRepository.save(menu);
+            menuChangeLog.record(inserted.getHotelId(), MenuChangeType.UPSERT, List.of(inserted.getId()));
+            return inserted;
+        });
+        hotelMenuCache.invalidate(saved.getHotelId());
+        searchIndex.indexMenu(saved);
+        return saved;
+    }
+
+    private void requireKnownHotel(Long hotelId) {
+        if (!hotelIdRegistry.exists(hotelId)) {
+            throw new IllegalArgumentException("Hotel not found with id: " + hotelId);
+        }
+    }
+
+    // Shared by createMenu and the bulk import so both accept exactly the same items
+    static void validateAndApplyDefaults(Menu menu) {
         if (menu.getName() == null || menu.getName().trim().isEmpty()) {
             throw new IllegalArgumentException("Menu item name is required");
         }
@@ -74,12 +277,21 @@ public class MenuServiceImpl implements MenuService {
         if (menu.getCategory() != null) {
             menu.setCategory(menu.getCategory().trim());
         }
-
-        return menuRepository.save(menu);
     }
 
     @Override
     public Menu updateMenu(Long id, Menu menuDetails) {
+        Menu saved = transactionTemplate.execute(status -> {
+            Menu updated = menuRepository.save(applyUpdate(id, menuDetails));
+            menuChangeLog.record(updated.getHotelId(), MenuChangeType.UPSERT, List.of(id));
+            return updated;
+        });
+        hotelMenuCache.invalidate(saved.getHotelId());
+        searchIndex.indexMenu(saved);
+        return saved;
+    }
+
+    private Menu applyUpdate(Long id, Menu menuDetails) {
         Menu menu = menuRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Menu item not found with id: " + id));
 
@@ -105,13 +317,19 @@ public class MenuServiceImpl implements MenuService {
             menu.setIsAvailable(menuDetails.getIsAvailable());
         }
 
-        return menuRepository.save(menu);
+        return menu;
     }
 
     @Override
     public void deleteMenu(Long id) {
-        Menu menu = menuRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Menu item not found with id: " + id));
-        menuRepository.delete(menu);
+        Menu menu = transactionTemplate.execute(status -> {
+            Menu deleted = menuRepository.findById(id)
+                    .orElseThrow(() -> new RuntimeException("Menu item not found with id: " + id));
+            menuRepository.delete(deleted);
+            menuChangeLog.record(deleted.getHotelId(), MenuChangeType.DELETE, List.of(id));
+            return deleted;
+        });
+        hotelMenuCache.invalidate(menu.getHotelId());
+        searchIndex.removeMenu(id);
     }
 }
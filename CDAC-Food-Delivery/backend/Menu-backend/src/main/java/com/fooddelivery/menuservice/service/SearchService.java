@@ -0,0 +1,17 @@
+package com.fooddelivery.menuservice.service;
+
+import java.util.List;
+
+import com.fooddelivery.menuservice.clients.dto.HotelSummaryDTO;
+import com.fooddelivery.menuservice.dto.SearchResponseDTO;
+
+public interface SearchService {
+
+    SearchResponseDTO search(String query, String foodType, int limit);
+
+    List<String> autocomplete(String prefix, String foodType, int limit);
+
+    void indexHotel(HotelSummaryDTO hotel);
+
+    void removeHotel(Long hotelId);
+}
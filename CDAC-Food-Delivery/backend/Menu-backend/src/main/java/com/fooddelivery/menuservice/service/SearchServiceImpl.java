@@ -0,0 +1,91 @@
+package com.fooddelivery.menuservice.service;
+
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.fooddelivery.menuservice.clients.HotelServiceClient;
+import com.fooddelivery.menuservice.clients.dto.HotelSummaryDTO;
+import com.fooddelivery.menuservice.dto.SearchResponseDTO;
+import com.fooddelivery.menuservice.enums.FoodType;
+import com.fooddelivery.menuservice.repository.MenuRepository;
+import com.fooddelivery.menuservice.search.MenuSearchIndex;
+
+@Service
+public class SearchServiceImpl implements SearchService {
+
+    private static final Logger log = LoggerFactory.getLogger(SearchServiceImpl.class);
+
+    static final int MAX_LIMIT = 50;
+
+    private final MenuSearchIndex searchIndex;
+    private final MenuRepository menuRepository;
+    private final HotelServiceClient hotelServiceClient;
+
+    public SearchServiceImpl(MenuSearchIndex searchIndex,
+                             MenuRepository menuRepository,
+                             HotelServiceClient hotelServiceClient) {
+        this.searchIndex = searchIndex;
+        this.menuRepository = menuRepository;
+        this.hotelServiceClient = hotelServiceClient;
+    }
+
+    @Override
+    public SearchResponseDTO search(String query, String foodType, int limit) {
+        return searchIndex.search(query, parseFoodType(foodType), clamp(limit));
+    }
+
+    @Override
+    public List<String> autocomplete(String prefix, String foodType, int limit) {
+        return searchIndex.suggest(prefix, parseFoodType(foodType), clamp(limit));
+    }
+
+    @Override
+    public void indexHotel(HotelSummaryDTO hotel) {
+        if (hotel.getId() == null) {
+            throw new IllegalArgumentException("Hotel ID is required");
+        }
+        searchIndex.indexHotel(hotel);
+    }
+
+    @Override
+    public void removeHotel(Long hotelId) {
+        searchIndex.removeHotel(hotelId);
+    }
+
+    // One full load at startup; after that menu writes keep the index current
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildIndex() {
+        searchIndex.replaceMenus(menuRepository.findAll());
+        refreshHotels();
+        log.info("Search index built: {} dishes, {} restaurants",
+                searchIndex.dishCount(), searchIndex.hotelCount());
+    }
+
+    // hotel-service pushes its writes; this catches any push that was missed
+    @Scheduled(fixedDelayString = "${search.hotels.refresh-ms:300000}",
+            initialDelayString = "${search.hotels.refresh-ms:300000}")
+    public void refreshHotels() {
+        try {
+            searchIndex.replaceHotels(hotelServiceClient.listHotels());
+        } catch (Exception e) {
+            log.warn("Could not refresh restaurants for search: {}", e.getMessage());
+        }
+    }
+
+    private static FoodType parseFoodType(String foodType) {
+        if (foodType == null || foodType.isBlank()) {
+            return null;
+        }
+        return FoodType.valueOf(foodType.trim().toUpperCase().replace('-', '_'));
+    }
+
+    private static int clamp(int limit) {
+        return Math.max(1, Math.min(limit, MAX_LIMIT));
+    }
+}
@@ -0,0 +1,15 @@
+package com.fooddelivery.menuservice.service;
+
+import java.util.List;
+
+import com.fooddelivery.menuservice.dto.OrderEventDTO;
+import com.fooddelivery.menuservice.dto.TrendingDishDTO;
+
+public interface TrendingService {
+
+    /** Counts the dishes of ORDER_CREATED events; other events and redeliveries are ignored. */
+    void recordOrders(List<OrderEventDTO> events);
+
+    /** Most ordered dishes in the window, for a hotel, a city, or everywhere when both are null. */
+    List<TrendingDishDTO> getTrending(Long hotelId, String city, int limit);
+}
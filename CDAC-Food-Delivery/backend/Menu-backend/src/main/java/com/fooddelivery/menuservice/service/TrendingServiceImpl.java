@@ -0,0 +1,107 @@
+package com.fooddelivery.menuservice.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.fooddelivery.menuservice.clients.dto.HotelSummaryDTO;
+import com.fooddelivery.menuservice.dto.DishSearchHitDTO;
+import com.fooddelivery.menuservice.dto.OrderEventDTO;
+import com.fooddelivery.menuservice.dto.TrendingDishDTO;
+import com.fooddelivery.menuservice.search.MenuSearchIndex;
+import com.fooddelivery.menuservice.trending.TrendingAggregator;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+@Service
+public class TrendingServiceImpl implements TrendingService {
+
+    private static final String OVERALL = "*";
+
+    private final TrendingAggregator aggregator;
+    private final MenuSearchIndex searchIndex;
+    // Delivery is at-least-once; a redelivered event must not be counted twice
+    private final Cache<Long, Boolean> seenEvents;
+
+    public TrendingServiceImpl(TrendingAggregator aggregator, MenuSearchIndex searchIndex,
+                               @Value("${menu.trending.window:PT1H}") Duration window) {
+        this.aggregator = aggregator;
+        this.searchIndex = searchIndex;
+        this.seenEvents = Caffeine.newBuilder()
+                .maximumSize(100_000)
+                .expireAfterWrite(window)
+                .build();
+    }
+
+    @Override
+    public void recordOrders(List<OrderEventDTO> events) {
+        for (OrderEventDTO event : events) {
+            if (!OrderEventDTO.ORDER_CREATED.equals(event.getType()) || event.getItems() == null) {
+                continue;
+            }
+            if (event.getEventId() != null && seenEvents.asMap().putIfAbsent(event.getEventId(), true) != null) {
+                continue;
+            }
+            LocalDateTime occurredAt = event.getOccurredAt() == null ? LocalDateTime.now() : event.getOccurredAt();
+            long atMillis = occurredAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+            for (OrderEventDTO.Item item : event.getItems()) {
+                DishSearchHitDTO dish = item.getMenuItemId() == null ? null : searchIndex.dish(item.getMenuItemId());
+                if (dish == null) {
+                    continue; // no longer on any menu
+                }
+                int quantity = item.getQuantity() == null || item.getQuantity() < 1 ? 1 : item.getQuantity();
+                aggregator.record(dish.getId(), quantity, atMillis, scopes(dish.getHotelId()));
+            }
+        }
+    }
+
+    @Override
+    public List<TrendingDishDTO> getTrending(Long hotelId, String city, int limit) {
+        String scope = hotelId != null ? hotelScope(hotelId)
+                : city != null && !city.isBlank() ? cityScope(city)
+                : OVERALL;
+        int wanted = Math.max(1, Math.min(limit, aggregator.maxResults()));
+
+        List<TrendingDishDTO> trending = new ArrayList<>(wanted);
+        for (Map.Entry<Long, Integer> entry : aggregator.top(scope, wanted)) {
+            DishSearchHitDTO dish = searchIndex.dish(entry.getKey());
+            if (dish != null) {
+                trending.add(new TrendingDishDTO(dish.getId(), dish.getHotelId(), dish.getHotelName(),
+                        dish.getName(), dish.getPrice(), entry.getValue()));
+            }
+        }
+        return trending;
+    }
+
+    private List<String> scopes(Long hotelId) {
+        HotelSummaryDTO hotel = searchIndex.hotel(hotelId);
+        String city = hotel == null ? null : city(hotel.getLocation());
+        return city == null
+                ? List.of(OVERALL, hotelScope(hotelId))
+                : List.of(OVERALL, hotelScope(hotelId), cityScope(city));
+    }
+
+    private static String hotelScope(Long hotelId) {
+        return "hotel:" + hotelId;
+    }
+
+    private static String cityScope(String city) {
+        return "city:" + city.trim().toLowerCase(Locale.ROOT);
+    }
+
+    // "Koregaon Park, Pune" -> "Pune"
+    private static String city(String location) {
+        if (location == null || location.isBlank()) {
+            return null;
+        }
+        String city = location.substring(location.lastIndexOf(',') + 1).trim();
+        return city.isEmpty() ? null : city;
+    }
+}
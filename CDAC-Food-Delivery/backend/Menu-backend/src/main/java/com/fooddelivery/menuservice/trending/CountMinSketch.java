@@ -0,0 +1,51 @@
+package com.fooddelivery.menuservice.trending;
+
+import java.util.Arrays;
+
+/**
+ * Count-min sketch over long keys: fixed memory (depth x width counters) and
+ * estimates that can only over-count, by at most about total / width with
+ * high probability. Not thread-safe; TrendingAggregator serializes access.
+ */
+final class CountMinSketch {
+
+    private final int[][] counters;
+    private final int width;
+
+    CountMinSketch(int depth, int width) {
+        this.counters = new int[depth][width];
+        this.width = width;
+    }
+
+    void add(long key, int count) {
+        for (int row = 0; row < counters.length; row++) {
+            counters[row][index(key, row)] += count;
+        }
+    }
+
+    int estimate(long key) {
+        int min = Integer.MAX_VALUE;
+        for (int row = 0; row < counters.length; row++) {
+            min = Math.min(min, counters[row][index(key, row)]);
+        }
+        return min;
+    }
+
+    void clear() {
+        for (int[] row : counters) {
+            Arrays.fill(row, 0);
+        }
+    }
+
+    private int index(long key, int row) {
+        long hash = mix(key + (row + 1) * 0x9E3779B97F4A7C15L);
+        return (int) ((hash >>> 1) % width);
+    }
+
+    // SplitMix64 finalizer
+    static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
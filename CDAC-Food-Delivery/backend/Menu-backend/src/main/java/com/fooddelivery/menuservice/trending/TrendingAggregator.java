@@ -0,0 +1,157 @@
+package com.fooddelivery.menuservice.trending;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Sliding-window dish counts with bounded memory.
+ *
+ * The window is split into time buckets, each with its own count-min sketch;
+ * a bucket is cleared and reused once it falls out of the window, so counts
+ * expire a bucket at a time. A key's windowed count is the sum of its
+ * estimates across live buckets.
+ *
+ * Sketches answer "how many" but cannot list keys, so each scope (a hotel, a
+ * city, or everything) also keeps a small candidate set of its hottest dishes,
+ * at most candidateFactor x top-k entries. A new dish enters by beating the
+ * weakest candidate; reads rank the candidates with a bounded min-heap.
+ *
+ * State is per instance. hotel-service sends every order event to every
+ * menu-service instance (MenuTrendingSubscriber), so all instances converge
+ * on the same counts; an instance started mid-window only knows what it has
+ * seen since.
+ */
+@Component
+public class TrendingAggregator {
+
+    private final long bucketMillis;
+    private final CountMinSketch[] sketches;
+    private final long[] bucketEpochs;
+    private final int topK;
+    private final int candidateCapacity;
+    private final Map<String, Map<Long, Integer>> candidatesByScope = new HashMap<>();
+    private final Clock clock;
+
+    @Autowired
+    public TrendingAggregator(@Value("${menu.trending.window:PT1H}") Duration window,
+                              @Value("${menu.trending.buckets:12}") int buckets,
+                              @Value("${menu.trending.sketch-depth:4}") int depth,
+                              @Value("${menu.trending.sketch-width:16384}") int width,
+                              @Value("${menu.trending.top-k:20}") int topK,
+                              @Value("${menu.trending.candidate-factor:4}") int candidateFactor) {
+        this(window, buckets, depth, width, topK, candidateFactor, Clock.systemUTC());
+    }
+
+    TrendingAggregator(Duration window, int buckets, int depth, int width, int topK, int candidateFactor,
+                       Clock clock) {
+        this.clock = clock;
+        this.bucketMillis = Math.max(1, window.toMillis() / buckets);
+        this.sketches = new CountMinSketch[buckets];
+        this.bucketEpochs = new long[buckets];
+        for (int i = 0; i < buckets; i++) {
+            sketches[i] = new CountMinSketch(depth, width);
+            bucketEpochs[i] = -1;
+        }
+        this.topK = topK;
+        this.candidateCapacity = topK * candidateFactor;
+    }
+
+    public int maxResults() {
+        return topK;
+    }
+
+    /** Counts quantity orders of a dish, at time atMillis, in each of the given scopes. */
+    public synchronized void record(long menuItemId, int quantity, long atMillis, List<String> scopes) {
+        long epoch = atMillis / bucketMillis;
+        long nowEpoch = clock.millis() / bucketMillis;
+        if (epoch > nowEpoch || epoch <= nowEpoch - sketches.length) {
+            return; // outside the window
+        }
+        int slot = (int) (epoch % sketches.length);
+        if (bucketEpochs[slot] != epoch) {
+            if (bucketEpochs[slot] > epoch) {
+                return; // the slot already holds a newer bucket
+            }
+            sketches[slot].clear();
+            bucketEpochs[slot] = epoch;
+        }
+        for (String scope : scopes) {
+            long key = key(scope, menuItemId);
+            sketches[slot].add(key, quantity);
+            offerCandidate(scope, menuItemId, windowedCount(key, nowEpoch));
+        }
+    }
+
+    /** The scope's hottest dishes in the window as (menuItemId, estimated quantity), best first. */
+    public synchronized List<Map.Entry<Long, Integer>> top(String scope, int limit) {
+        Map<Long, Integer> candidates = candidatesByScope.get(scope);
+        if (candidates == null || limit <= 0) {
+            return List.of();
+        }
+        long nowEpoch = clock.millis() / bucketMillis;
+        Comparator<Map.Entry<Long, Integer>> order = Map.Entry.comparingByValue();
+        PriorityQueue<Map.Entry<Long, Integer>> heap = new PriorityQueue<>(limit + 1, order);
+        for (Long menuItemId : candidates.keySet()) {
+            int count = windowedCount(key(scope, menuItemId), nowEpoch);
+            candidates.put(menuItemId, count);
+            if (count > 0) {
+                heap.offer(Map.entry(menuItemId, count));
+                if (heap.size() > limit) {
+                    heap.poll();
+                }
+            }
+        }
+        candidates.values().removeIf(count -> count == 0);
+        if (candidates.isEmpty()) {
+            candidatesByScope.remove(scope);
+        }
+        List<Map.Entry<Long, Integer>> ranked = new ArrayList<>(heap);
+        ranked.sort(order.reversed());
+        return ranked;
+    }
+
+    private void offerCandidate(String scope, long menuItemId, int count) {
+        Map<Long, Integer> candidates = candidatesByScope.computeIfAbsent(scope, s -> new HashMap<>());
+        if (candidates.containsKey(menuItemId) || candidates.size() < candidateCapacity) {
+            candidates.put(menuItemId, count);
+            return;
+        }
+        // Full: replace the weakest candidate if this dish is now hotter
+        Long weakest = null;
+        int weakestCount = Integer.MAX_VALUE;
+        for (Map.Entry<Long, Integer> candidate : candidates.entrySet()) {
+            if (candidate.getValue() < weakestCount) {
+                weakest = candidate.getKey();
+                weakestCount = candidate.getValue();
+            }
+        }
+        if (count > weakestCount) {
+            candidates.remove(weakest);
+            candidates.put(menuItemId, count);
+        }
+    }
+
+    private int windowedCount(long key, long nowEpoch) {
+        int total = 0;
+        for (int i = 0; i < sketches.length; i++) {
+            if (bucketEpochs[i] > nowEpoch - sketches.length) {
+                total += sketches[i].estimate(key);
+            }
+        }
+        return total;
+    }
+
+    private static long key(String scope, long menuItemId) {
+        return CountMinSketch.mix(scope.hashCode()) ^ menuItemId;
+    }
+}
@@ -0,0 +1,51 @@
+package com.fooddelivery.menuservice.cache;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+class BloomFilterTest {
+
+    private static final int KEYS = 50_000;
+
+    @Test
+    void neverReportsAnAddedKeyAsMissing() {
+        BloomFilter filter = new BloomFilter(KEYS, 0.01);
+        Random random = new Random(42);
+        long[] keys = new long[KEYS];
+        for (int i = 0; i < KEYS; i++) {
+            // Mix sequential ids (how hotel ids look) with arbitrary longs
+            keys[i] = i % 2 == 0 ? i : random.nextLong();
+            filter.add(keys[i]);
+        }
+        for (long key : keys) {
+            assertTrue(filter.mightContain(key), "false negative for " + key);
+        }
+    }
+
+    @Test
+    void falsePositiveRateIsCloseToConfigured() {
+        BloomFilter filter = new BloomFilter(KEYS, 0.01);
+        for (long id = 1; id <= KEYS; id++) {
+            filter.add(id);
+        }
+        int probes = 200_000;
+        int falsePositives = 0;
+        for (long id = KEYS + 1; id <= KEYS + probes; id++) {
+            if (filter.mightContain(id)) {
+                falsePositives++;
+            }
+        }
+        double rate = (double) falsePositives / probes;
+        assertTrue(rate < 0.02, "false positive rate " + rate + " for a 1% filter");
+    }
+
+    @Test
+    void emptyFilterStillWorks() {
+        BloomFilter filter = new BloomFilter(0, 0.01);
+        filter.add(7);
+        assertTrue(filter.mightContain(7));
+    }
+}
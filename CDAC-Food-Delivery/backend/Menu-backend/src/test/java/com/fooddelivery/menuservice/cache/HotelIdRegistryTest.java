@@ -0,0 +1,147 @@
+package com.fooddelivery.menuservice.cache;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.fooddelivery.menuservice.clients.HotelServiceClient;
+
+import feign.FeignException;
+import feign.Request;
+
+class HotelIdRegistryTest {
+
+    private HotelServiceClient client;
+    private HotelIdRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        client = mock(HotelServiceClient.class);
+        registry = new HotelIdRegistry(client, Duration.ofMinutes(1));
+    }
+
+    @Test
+    void acceptsEveryIdUntilTheFirstRefresh() {
+        assertTrue(registry.exists(99L));
+        verify(client, never()).getHotelById(99L);
+    }
+
+    @Test
+    void knownIdsAreAnsweredFromTheSnapshot() {
+        when(client.getHotelIds()).thenReturn(List.of(1L, 2L, 3L));
+        registry.refresh();
+
+        assertTrue(registry.exists(2L));
+        verify(client, never()).getHotelById(2L);
+    }
+
+    @Test
+    void unknownIdIsCheckedRemotelyOnceAndCached() {
+        when(client.getHotelIds()).thenReturn(List.of(1L));
+        when(client.getHotelById(5L)).thenThrow(notFound());
+        registry.refresh();
+
+        assertFalse(registry.exists(5L));
+        assertFalse(registry.exists(5L));
+        verify(client, times(1)).getHotelById(5L);
+    }
+
+    @Test
+    void addedIdIsKnownBeforeTheNextRefresh() {
+        when(client.getHotelIds()).thenReturn(List.of(1L));
+        registry.refresh();
+
+        registry.add(7L);
+
+        assertTrue(registry.exists(7L));
+        verify(client, never()).getHotelById(7L);
+    }
+
+    @Test
+    void addSurvivesARefreshThatStartedBeforeTheHotelExisted() {
+        when(client.getHotelIds()).thenReturn(List.of(1L));
+        registry.add(7L);
+        registry.refresh(); // list fetched without 7
+
+        assertTrue(registry.exists(7L));
+        verify(client, never()).getHotelById(7L);
+    }
+
+    @Test
+    void removedIdIsRejectedEvenWhileAStaleSnapshotStillHasIt() {
+        when(client.getHotelIds()).thenReturn(List.of(1L, 2L));
+        registry.refresh();
+
+        registry.remove(2L);
+        assertFalse(registry.exists(2L));
+
+        registry.refresh(); // stale list still contains 2
+        assertFalse(registry.exists(2L));
+    }
+
+    @Test
+    void removeThenAddMakesTheIdValidAgain() {
+        when(client.getHotelIds()).thenReturn(List.of(1L));
+        registry.refresh();
+
+        registry.remove(1L);
+        registry.add(1L);
+
+        assertTrue(registry.exists(1L));
+    }
+
+    @Test
+    void addInvalidatesACachedRemoteMiss() {
+        when(client.getHotelIds()).thenReturn(List.of(1L));
+        when(client.getHotelById(8L)).thenThrow(notFound());
+        registry.refresh();
+        assertFalse(registry.exists(8L));
+
+        registry.add(8L);
+
+        assertTrue(registry.exists(8L));
+    }
+
+    @Test
+    void refreshFoldsTheSideSetsIntoTheSnapshot() {
+        when(client.getHotelIds()).thenReturn(List.of(1L, 2L), List.of(1L, 3L));
+        registry.refresh();
+        registry.add(3L);
+        registry.remove(2L);
+
+        registry.refresh();
+        // 2 is gone from hotel-service now, so the snapshot alone rejects it: one remote check
+        when(client.getHotelById(2L)).thenThrow(notFound());
+        assertFalse(registry.exists(2L));
+        assertTrue(registry.exists(3L));
+        verify(client, times(1)).getHotelById(2L);
+        verify(client, never()).getHotelById(3L);
+    }
+
+    @Test
+    void failsOpenWhenHotelServiceIsDown() {
+        when(client.getHotelIds()).thenReturn(List.of(1L));
+        when(client.getHotelById(4L)).thenThrow(new IllegalStateException("connection refused"));
+        registry.refresh();
+
+        assertTrue(registry.exists(4L));
+    }
+
+    private static FeignException.NotFound notFound() {
+        Request request = Request.create(Request.HttpMethod.GET, "/api/hotels/0", Map.of(), null,
+                StandardCharsets.UTF_8, null);
+        return new FeignException.NotFound("Not Found", request, null, Map.of());
+    }
+}
@@ -0,0 +1,93 @@
+package com.fooddelivery.menuservice.cache;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fooddelivery.menuservice.dto.MenuResponseDTO;
+import com.fooddelivery.menuservice.entity.Menu;
+import com.fooddelivery.menuservice.enums.FoodType;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Compares serializing a menu with Jackson on every request against handing out
+ * the bytes cached in HotelMenuCache. No Spring context or database needed.
+ */
+class MenuSerializationBenchmarkTest {
+
+    private static final int ITEMS = 80;
+    private static final int REQUESTS = 20_000;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void cachedBytesAvoidPerRequestSerialization() throws Exception {
+        List<MenuResponseDTO> menu = sampleMenu();
+        HotelMenuCache.MenuData data = new HotelMenuCache.MenuData(1, menu);
+        HotelMenuCache cache = new HotelMenuCache(objectMapper, new SimpleMeterRegistry(),
+                100, Duration.ofMinutes(5), true, Duration.ofMinutes(5));
+        cache.get(1L, id -> data, id -> 1L);
+
+        assertArrayEquals(objectMapper.writeValueAsBytes(menu),
+                cache.get(1L, id -> data, id -> 1L).view(null).json());
+
+        com.sun.management.ThreadMXBean threads =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+
+        long sink = 0;
+        // Warm up both paths before measuring
+        for (int i = 0; i < REQUESTS; i++) {
+            sink += objectMapper.writeValueAsBytes(menu).length;
+            sink += cache.get(1L, id -> data, id -> 1L).view(FoodType.VEG).json().length;
+        }
+
+        long allocBefore = threads.getThreadAllocatedBytes(threadId);
+        long start = System.nanoTime();
+        for (int i = 0; i < REQUESTS; i++) {
+            sink += objectMapper.writeValueAsBytes(menu).length;
+        }
+        long mapperNanos = System.nanoTime() - start;
+        long mapperAlloc = threads.getThreadAllocatedBytes(threadId) - allocBefore;
+
+        allocBefore = threads.getThreadAllocatedBytes(threadId);
+        start = System.nanoTime();
+        for (int i = 0; i < REQUESTS; i++) {
+            sink += cache.get(1L, id -> data, id -> 1L).view(null).json().length;
+        }
+        long cachedNanos = System.nanoTime() - start;
+        long cachedAlloc = threads.getThreadAllocatedBytes(threadId) - allocBefore;
+
+        System.out.printf("menu serialization: jackson %d B/req %d ns/req, cached %d B/req %d ns/req (sink %d)%n",
+                mapperAlloc / REQUESTS, mapperNanos / REQUESTS,
+                cachedAlloc / REQUESTS, cachedNanos / REQUESTS, sink);
+
+        assertTrue(cachedAlloc * 10 < mapperAlloc,
+                "cached path should allocate at least 10x less than per-request serialization");
+    }
+
+    private static List<MenuResponseDTO> sampleMenu() {
+        List<MenuResponseDTO> items = new ArrayList<>();
+        for (int i = 0; i < ITEMS; i++) {
+            Menu menu = new Menu();
+            menu.setId((long) i);
+            menu.setHotelId(1L);
+            menu.setName("Dish " + i);
+            menu.setDescription("House special number " + i + " with rice and salad");
+            menu.setPrice(100 + i);
+            menu.setFoodType(i % 2 == 0 ? FoodType.VEG : FoodType.NON_VEG);
+            menu.setCategory("Main Course");
+            menu.setIsAvailable(true);
+            items.add(new MenuResponseDTO(menu));
+        }
+        return items;
+    }
+}
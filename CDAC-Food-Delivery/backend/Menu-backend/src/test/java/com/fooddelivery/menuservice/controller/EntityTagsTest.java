@@ -0,0 +1,38 @@
+package com.fooddelivery.menuservice.controller;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import com.fooddelivery.menuservice.cache.HotelMenuCache;
+
+class EntityTagsTest {
+
+    private static final String ETAG = HotelMenuCache.etag(7L, 42);
+
+    @Test
+    void matchesExactListedWeakAndWildcardTags() {
+        assertFalse(EntityTags.noneMatch("\"7-42\"", ETAG));
+        assertFalse(EntityTags.noneMatch("\"7-41\", \"7-42\"", ETAG));
+        assertFalse(EntityTags.noneMatch("\"7-41\",\"7-42\"", ETAG));
+        assertFalse(EntityTags.noneMatch("W/\"7-42\"", ETAG));
+        assertFalse(EntityTags.noneMatch(" * ", ETAG));
+    }
+
+    @Test
+    void otherTagsMissingHeaderAndGarbageDoNotMatch() {
+        assertTrue(EntityTags.noneMatch(null, ETAG));
+        assertTrue(EntityTags.noneMatch("", ETAG));
+        assertTrue(EntityTags.noneMatch("\"7-41\", W/\"8-42\"", ETAG));
+        assertTrue(EntityTags.noneMatch("7-42", ETAG));
+        assertTrue(EntityTags.noneMatch("\"7-42-gz\"", ETAG));
+    }
+
+    @Test
+    void gzipBodyHasItsOwnTag() {
+        assertNotEquals(ETAG, HotelMenuCache.gzipEtag(7L, 42));
+        assertTrue(EntityTags.noneMatch(ETAG, HotelMenuCache.gzipEtag(7L, 42)));
+    }
+}
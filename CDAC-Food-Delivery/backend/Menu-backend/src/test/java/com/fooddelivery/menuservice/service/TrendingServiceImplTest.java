@@ -0,0 +1,64 @@
+package com.fooddelivery.menuservice.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.fooddelivery.menuservice.clients.dto.HotelSummaryDTO;
+import com.fooddelivery.menuservice.dto.OrderEventDTO;
+import com.fooddelivery.menuservice.dto.TrendingDishDTO;
+import com.fooddelivery.menuservice.entity.Menu;
+import com.fooddelivery.menuservice.enums.FoodType;
+import com.fooddelivery.menuservice.search.MenuSearchIndex;
+import com.fooddelivery.menuservice.trending.TrendingAggregator;
+
+class TrendingServiceImplTest {
+
+    private TrendingServiceImpl trendingService;
+
+    @BeforeEach
+    void setUp() {
+        MenuSearchIndex searchIndex = new MenuSearchIndex();
+        searchIndex.indexHotel(new HotelSummaryDTO(1L, "Spice Route", "Indian", "Koregaon Park, Pune", 4.2, 400, null));
+        searchIndex.indexMenu(new Menu(10L, 1L, "Paneer Tikka", "", 250, null, "Starters", FoodType.VEG, true));
+        TrendingAggregator aggregator = new TrendingAggregator(Duration.ofHours(1), 12, 4, 4096, 20, 4);
+        trendingService = new TrendingServiceImpl(aggregator, searchIndex, Duration.ofHours(1));
+    }
+
+    @Test
+    void redeliveredEventIsCountedOnce() {
+        trendingService.recordOrders(List.of(order(100L, 2)));
+        trendingService.recordOrders(List.of(order(100L, 2), order(101L, 1)));
+
+        List<TrendingDishDTO> trending = trendingService.getTrending(null, "pune", 10);
+        assertEquals(1, trending.size());
+        assertEquals(3, trending.get(0).getOrders());
+        assertEquals(3, trendingService.getTrending(1L, null, 10).get(0).getOrders());
+    }
+
+    @Test
+    void ignoresDishesNoLongerOnAnyMenu() {
+        OrderEventDTO event = order(200L, 1);
+        event.getItems().get(0).setMenuItemId(999L);
+        trendingService.recordOrders(List.of(event));
+
+        assertEquals(List.of(), trendingService.getTrending(null, null, 10));
+    }
+
+    private static OrderEventDTO order(Long eventId, int quantity) {
+        OrderEventDTO.Item item = new OrderEventDTO.Item();
+        item.setMenuItemId(10L);
+        item.setQuantity(quantity);
+        OrderEventDTO event = new OrderEventDTO();
+        event.setEventId(eventId);
+        event.setType(OrderEventDTO.ORDER_CREATED);
+        event.setOccurredAt(LocalDateTime.now());
+        event.setItems(List.of(item));
+        return event;
+    }
+}
@@ -0,0 +1,45 @@
+package com.fooddelivery.menuservice.trending;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+class CountMinSketchTest {
+
+    @Test
+    void neverUnderCountsAndStaysWithinTheErrorBound() {
+        int width = 1024;
+        CountMinSketch sketch = new CountMinSketch(4, width);
+        int keys = 5_000;
+        int[] exact = new int[keys];
+        Random random = new Random(7);
+        long total = 0;
+        for (int i = 0; i < 50_000; i++) {
+            int key = random.nextInt(keys);
+            exact[key]++;
+            sketch.add(key, 1);
+            total++;
+        }
+        int overBound = 0;
+        for (int key = 0; key < keys; key++) {
+            int estimate = sketch.estimate(key);
+            assertTrue(estimate >= exact[key], "under-counted key " + key);
+            // e / width * total with probability 1 - e^-depth per key
+            if (estimate - exact[key] > Math.E * total / width) {
+                overBound++;
+            }
+        }
+        assertTrue(overBound < keys * 0.05, overBound + " keys over the error bound");
+    }
+
+    @Test
+    void clearForgetsEverything() {
+        CountMinSketch sketch = new CountMinSketch(4, 64);
+        sketch.add(1, 5);
+        sketch.clear();
+        assertEquals(0, sketch.estimate(1));
+    }
+}
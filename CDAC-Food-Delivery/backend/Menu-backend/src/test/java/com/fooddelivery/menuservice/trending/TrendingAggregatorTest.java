@@ -0,0 +1,124 @@
+package com.fooddelivery.menuservice.trending;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+class TrendingAggregatorTest {
+
+    private static final List<String> ALL = List.of("*");
+    // Start on a bucket boundary (1h window / 12 buckets = 5 minutes)
+    private static final long START = Duration.ofMinutes(5).toMillis() * 6_000_000L;
+
+    private final MutableClock clock = new MutableClock(START);
+
+    private TrendingAggregator aggregator(int topK, int candidateFactor) {
+        return new TrendingAggregator(Duration.ofHours(1), 12, 4, 4096, topK, candidateFactor, clock);
+    }
+
+    @Test
+    void ranksDishesByQuantityInTheWindow() {
+        TrendingAggregator aggregator = aggregator(10, 4);
+        aggregator.record(1, 3, clock.millis(), ALL);
+        aggregator.record(2, 5, clock.millis(), ALL);
+        aggregator.record(1, 1, clock.millis(), ALL);
+
+        assertEquals(List.of(Map.entry(2L, 5), Map.entry(1L, 4)), aggregator.top("*", 10));
+        assertEquals(List.of(Map.entry(2L, 5)), aggregator.top("*", 1));
+        assertEquals(List.of(), aggregator.top("hotel:1", 10));
+    }
+
+    @Test
+    void countsExpireOneBucketAtATime() {
+        TrendingAggregator aggregator = aggregator(10, 4);
+        aggregator.record(1, 5, clock.millis(), ALL);
+        clock.advance(Duration.ofMinutes(40));
+        aggregator.record(1, 2, clock.millis(), ALL);
+
+        clock.advance(Duration.ofMinutes(19));
+        assertEquals(List.of(Map.entry(1L, 7)), aggregator.top("*", 10));
+
+        // 65 minutes after the first order: its bucket has left the window
+        clock.advance(Duration.ofMinutes(6));
+        assertEquals(List.of(Map.entry(1L, 2)), aggregator.top("*", 10));
+
+        clock.advance(Duration.ofMinutes(40));
+        assertTrue(aggregator.top("*", 10).isEmpty());
+    }
+
+    @Test
+    void ignoresEventsOutsideTheWindow() {
+        TrendingAggregator aggregator = aggregator(10, 4);
+        clock.advance(Duration.ofHours(2));
+        aggregator.record(1, 5, clock.millis() - Duration.ofMinutes(61).toMillis(), ALL);
+        aggregator.record(2, 5, clock.millis() + Duration.ofMinutes(10).toMillis(), ALL);
+
+        assertTrue(aggregator.top("*", 10).isEmpty());
+    }
+
+    @Test
+    void hotterDishEvictsTheWeakestCandidate() {
+        // Room for two candidates per scope
+        TrendingAggregator aggregator = aggregator(2, 1);
+        aggregator.record(1, 5, clock.millis(), ALL);
+        aggregator.record(2, 3, clock.millis(), ALL);
+        aggregator.record(3, 1, clock.millis(), ALL);
+        assertEquals(List.of(Map.entry(1L, 5), Map.entry(2L, 3)), aggregator.top("*", 2));
+
+        // 3 is now at 6 and pushes out 2, the weakest
+        aggregator.record(3, 5, clock.millis(), ALL);
+        assertEquals(List.of(Map.entry(3L, 6), Map.entry(1L, 5)), aggregator.top("*", 2));
+    }
+
+    @Test
+    void scopesAreCountedSeparately() {
+        TrendingAggregator aggregator = aggregator(10, 4);
+        aggregator.record(1, 2, clock.millis(), List.of("*", "hotel:1"));
+        aggregator.record(9, 4, clock.millis(), List.of("*", "hotel:2"));
+
+        assertEquals(List.of(Map.entry(1L, 2)), aggregator.top("hotel:1", 10));
+        assertEquals(List.of(Map.entry(9L, 4), Map.entry(1L, 2)), aggregator.top("*", 10));
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private long millis;
+
+        MutableClock(long millis) {
+            this.millis = millis;
+        }
+
+        void advance(Duration duration) {
+            millis += duration.toMillis();
+        }
+
+        @Override
+        public long millis() {
+            return millis;
+        }
+
+        @Override
+        public Instant instant() {
+            return Instant.ofEpochMilli(millis);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.fooddelivery.apigateway.config;
+
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+/**
+ * Service-to-service endpoints live under /internal/** in every service. The
+ * discovery locator would otherwise expose them as /{service-id}/internal/**,
+ * so any request with an "internal" path segment is answered with 404 before
+ * routing. Checked on the decoded path, ignoring case and empty segments.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class InternalPathFilter implements WebFilter {
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        String path = exchange.getRequest().getURI().getPath();
+        if (path != null && hasInternalSegment(path)) {
+            exchange.getResponse().setStatusCode(HttpStatus.NOT_FOUND);
+            return exchange.getResponse().setComplete();
+        }
+        return chain.filter(exchange);
+    }
+
+    static boolean hasInternalSegment(String path) {
+        for (String segment : path.split("/")) {
+            // Matrix parameters (;a=b) do not change which handler a segment maps to
+            int semicolon = segment.indexOf(';');
+            String name = semicolon < 0 ? segment : segment.substring(0, semicolon);
+            if (name.trim().equalsIgnoreCase("internal")) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
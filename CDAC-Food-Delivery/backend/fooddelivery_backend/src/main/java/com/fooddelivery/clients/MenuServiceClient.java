@@ -1,10 +1,18 @@
 package com.fooddelivery.clients;
 
+import com.fooddelivery.clients.dto.MenuSummaryDTO;
+import com.fooddelivery.hotelservice.DTO.HotelListResponseDTO;
 import org.springframework.cloud.openfeign.FeignClient;
+import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
+
+import java.util.Collection;
+import java.util.List;
 
 @FeignClient(name = "menu-service")
 public interface MenuServiceClient {
@@ -12,9 +20,20 @@ public interface MenuServiceClient {
     @GetMapping("/api/menu/{id}")
     Object getMenuById(@PathVariable("id") Long id);
 
+    // Resolves a whole cart in one round trip (at most 200 ids per call)
+    @GetMapping("/api/menu/batch")
+    List<MenuSummaryDTO> getMenusByIds(@RequestParam("ids") Collection<Long> ids);
+
     @GetMapping("/api/menu")
     Object getAllMenus();
 
     @PostMapping("/api/menu")
     Object createMenu(@RequestBody Object menuRequest);
+
+    // Keeps menu-service's restaurant search index in step with hotel writes
+    @PutMapping("/internal/search/hotels")
+    void indexHotel(@RequestBody HotelListResponseDTO hotel);
+
+    @DeleteMapping("/internal/search/hotels/{id}")
+    void removeHotelFromSearch(@PathVariable("id") Long id);
 }
@@ -0,0 +1,18 @@
+package com.fooddelivery.clients.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// Compact menu item view returned by menu-service GET /api/menu/batch
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class MenuSummaryDTO {
+    private Long id;
+    private Long hotelId;
+    private String name;
+    private Integer price;
+    private String foodType;
+    private Boolean isAvailable;
+}
@@ -0,0 +1,18 @@
+package com.fooddelivery.hotelservice.DTO;
+
+import java.util.List;
+import java.util.Map;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class FacetSearchResponse {
+    private int total;
+    private List<HotelListResponseDTO> hotels;
+    // facet -> value -> matching hotels if that value were also selected
+    private Map<String, Map<String, Integer>> facets;
+}
@@ -1,7 +1,10 @@
 package com.fooddelivery.hotelservice.DTO;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fooddelivery.hotelservice.entity.Hotel;
 
+// Fields left out of a sparse listing (?fields=) are null and not written
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public class HotelListResponseDTO {
 
     private Long id;
@@ -22,6 +25,17 @@ public class HotelListResponseDTO {
         this.imageUrl = hotel.getImageUrl();
     }
 
+    public HotelListResponseDTO(Long id, String name, String cuisine, String location,
+                                Double rating, Integer price, String imageUrl) {
+        this.id = id;
+        this.name = name;
+        this.cuisine = cuisine;
+        this.location = location;
+        this.rating = rating;
+        this.price = price;
+        this.imageUrl = imageUrl;
+    }
+
     public Long getId() {
         return id;
     }
@@ -0,0 +1,15 @@
+package com.fooddelivery.hotelservice.DTO;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class HotelPageResponse {
+    private List<HotelListResponseDTO> hotels;
+    private String nextPageToken; // null on the last page
+}
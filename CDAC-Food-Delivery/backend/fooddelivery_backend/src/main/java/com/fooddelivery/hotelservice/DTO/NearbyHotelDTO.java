@@ -0,0 +1,20 @@
+package com.fooddelivery.hotelservice.DTO;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class NearbyHotelDTO {
+
+    private Long id;
+    private String name;
+    private String cuisine;
+    private String location;
+    private Double rating;
+    private Integer price;
+    private String imageUrl;
+    private double latitude;
+    private double longitude;
+    private double distanceKm;
+}
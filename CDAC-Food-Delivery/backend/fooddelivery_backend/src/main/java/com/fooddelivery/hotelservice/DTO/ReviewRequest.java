@@ -0,0 +1,13 @@
+package com.fooddelivery.hotelservice.DTO;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+public class ReviewRequest {
+    private Long orderId;
+    private String userEmail;
+    private Integer rating; // 1 to 5
+    private String comment;
+}
@@ -0,0 +1,109 @@
+package com.fooddelivery.hotelservice.cache;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import com.fooddelivery.internal.InternalTokenFilter;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.discovery.DiscoveryClient;
+import org.springframework.cloud.client.serviceregistry.Registration;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Tells the other hotel-service instances registered in Eureka that a hotel
+ * changed, by POSTing a HotelInvalidation to each peer's
+ * /internal/hotels/cache/invalidate.
+ *
+ * Sends are asynchronous and best effort so an admin write never waits on a
+ * peer. A peer that misses a message catches up through its near-cache TTL
+ * and the periodic index reconciliation.
+ */
+@Component
+public class HotelCacheBroadcaster {
+
+    private static final Logger log = LoggerFactory.getLogger(HotelCacheBroadcaster.class);
+
+    static final String INVALIDATE_PATH = "/internal/hotels/cache/invalidate";
+
+    private final DiscoveryClient discoveryClient;
+    private final ObjectProvider<Registration> self;
+    private final RestTemplate restTemplate;
+    private final String serviceId;
+    private final boolean enabled;
+    private final ExecutorService senders;
+
+    public HotelCacheBroadcaster(DiscoveryClient discoveryClient, ObjectProvider<Registration> self,
+                                 RestTemplateBuilder builder,
+                                 @Value("${spring.application.name}") String serviceId,
+                                 @Value("${hotel.near-cache.broadcast.enabled:true}") boolean enabled,
+                                 @Value("${hotel.near-cache.broadcast.queue-capacity:10000}") int queueCapacity,
+                                 @Value("${internal.token}") String internalToken) {
+        this.discoveryClient = discoveryClient;
+        this.self = self;
+        this.restTemplate = builder
+                .setConnectTimeout(Duration.ofSeconds(1))
+                .setReadTimeout(Duration.ofSeconds(2))
+                .defaultHeader(InternalTokenFilter.HEADER, internalToken)
+                .build();
+        this.serviceId = serviceId;
+        this.enabled = enabled;
+        this.senders = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(queueCapacity), r -> {
+                    Thread t = new Thread(r, "hotel-cache-broadcast");
+                    t.setDaemon(true);
+                    return t;
+                });
+    }
+
+    public void publish(HotelInvalidation invalidation) {
+        if (!enabled) {
+            return;
+        }
+        try {
+            senders.execute(() -> send(invalidation));
+        } catch (RejectedExecutionException e) {
+            log.warn("Hotel cache invalidation for {} dropped, broadcast queue is full", invalidation.hotelId());
+        }
+    }
+
+    private void send(HotelInvalidation invalidation) {
+        for (ServiceInstance peer : peers()) {
+            try {
+                restTemplate.postForEntity(peer.getUri().resolve(INVALIDATE_PATH), invalidation, Void.class);
+            } catch (Exception e) {
+                log.warn("Hotel cache invalidation for {} not delivered to {}: {}",
+                        invalidation.hotelId(), peer.getUri(), e.getMessage());
+            }
+        }
+    }
+
+    private List<ServiceInstance> peers() {
+        Registration me = self.getIfAvailable();
+        return discoveryClient.getInstances(serviceId).stream()
+                .filter(instance -> me == null || !isSameInstance(instance, me))
+                .toList();
+    }
+
+    private static boolean isSameInstance(ServiceInstance instance, Registration me) {
+        return instance.getHost().equalsIgnoreCase(me.getHost()) && instance.getPort() == me.getPort();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        senders.shutdownNow();
+    }
+}
@@ -0,0 +1,5 @@
+package com.fooddelivery.hotelservice.cache;
+
+/** A hotel changed (or was deleted) on some instance; version is its new Hotel.version. */
+public record HotelInvalidation(Long hotelId, Long version, boolean deleted) {
+}
@@ -0,0 +1,100 @@
+package com.fooddelivery.hotelservice.cache;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.fooddelivery.hotelservice.entity.Hotel;
+import com.fooddelivery.hotelservice.repository.HotelRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * Per-instance cache of hotels by id, kept coherent across instances by
+ * version-stamped invalidations (see HotelCacheBroadcaster).
+ *
+ * Besides the cached hotels, the cache remembers the newest version it has
+ * heard of per hotel. An invalidation older than that is ignored, and a
+ * database read that comes back older than that (it raced a newer write) is
+ * returned but not cached. The TTL bounds staleness should a peer's message
+ * be lost.
+ */
+@Component
+public class HotelNearCache {
+
+    // Outlives any cached entry so a late, older read can still be recognised
+    private static final Duration VERSION_MEMORY = Duration.ofHours(1);
+
+    private final HotelRepository hotelRepository;
+    private final Cache<Long, Hotel> hotels;
+    private final Cache<Long, Long> latestVersions;
+
+    public HotelNearCache(HotelRepository hotelRepository, MeterRegistry meterRegistry,
+                          @Value("${hotel.near-cache.ttl:PT5M}") Duration ttl,
+                          @Value("${hotel.near-cache.max-size:10000}") long maxSize) {
+        this.hotelRepository = hotelRepository;
+        this.hotels = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        this.latestVersions = Caffeine.newBuilder()
+                .maximumSize(maxSize * 2)
+                .expireAfterWrite(VERSION_MEMORY.compareTo(ttl) > 0 ? VERSION_MEMORY : ttl.multipliedBy(2))
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, hotels, "hotel.near-cache");
+    }
+
+    public Optional<Hotel> get(Long hotelId) {
+        Hotel cached = hotels.getIfPresent(hotelId);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        Optional<Hotel> loaded = hotelRepository.findById(hotelId);
+        loaded.ifPresent(this::put);
+        return loaded;
+    }
+
+    /** Caches the hotel unless a newer version (or its deletion) is already known. */
+    public void put(Hotel hotel) {
+        long version = hotel.getVersion() == null ? 0 : hotel.getVersion();
+        if (advance(hotel.getId(), version) >= 0) {
+            hotels.asMap().merge(hotel.getId(), hotel, (current, candidate) ->
+                    versionOf(current) > version ? current : candidate);
+        }
+    }
+
+    /**
+     * Drops the hotel if the invalidation is newer than what is cached.
+     * Returns false for an out-of-date invalidation, which changes nothing.
+     */
+    public boolean invalidate(HotelInvalidation invalidation) {
+        long version = invalidation.deleted() ? Long.MAX_VALUE
+                : invalidation.version() == null ? 0 : invalidation.version();
+        if (advance(invalidation.hotelId(), version) < 0) {
+            return false;
+        }
+        hotels.asMap().computeIfPresent(invalidation.hotelId(), (id, current) ->
+                versionOf(current) >= version ? current : null);
+        return true;
+    }
+
+    // Records version as the newest known; negative if an even newer one was already known
+    private long advance(Long hotelId, long version) {
+        long[] previous = {Long.MIN_VALUE};
+        latestVersions.asMap().merge(hotelId, version, (known, candidate) -> {
+            previous[0] = known;
+            return Math.max(known, candidate);
+        });
+        return Long.compare(version, previous[0]);
+    }
+
+    private static long versionOf(Hotel hotel) {
+        return hotel.getVersion() == null ? 0 : hotel.getVersion();
+    }
+}
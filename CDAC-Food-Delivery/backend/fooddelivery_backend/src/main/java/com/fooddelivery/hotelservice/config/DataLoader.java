@@ -8,11 +8,26 @@ import org.springframework.boot.CommandLineRunner;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
+import java.util.Map;
 
 @Component
 public class DataLoader implements CommandLineRunner {
 
         private static final Logger log = LoggerFactory.getLogger(DataLoader.class);
+
+        // Approximate locality centres, so nearby search works on a fresh database
+        // and for seeded restaurants created before coordinates existed
+        private static final Map<String, double[]> LOCALITY_COORDINATES = Map.of(
+                        "FC Road, Deccan, Pune", new double[] { 18.5236, 73.8412 },
+                        "Apte Road, Deccan, Pune", new double[] { 18.5176, 73.8424 },
+                        "Koregaon Park, Pune", new double[] { 18.5362, 73.8940 },
+                        "Karve Nagar, Pune", new double[] { 18.4893, 73.8196 },
+                        "Kalyani Nagar, Pune", new double[] { 18.5463, 73.9033 },
+                        "Camp, Pune", new double[] { 18.5158, 73.8780 },
+                        "FC Road, Pune", new double[] { 18.5255, 73.8410 },
+                        "Aundh, Pune", new double[] { 18.5590, 73.8075 },
+                        "Viman Nagar, Pune", new double[] { 18.5679, 73.9143 });
+
         private final HotelRepository hotelRepository;
 
         public DataLoader(HotelRepository hotelRepository) {
@@ -27,6 +42,7 @@ public class DataLoader implements CommandLineRunner {
                         log.info("Loaded {} restaurants", hotelRepository.count());
                 } else {
                         log.info("Restaurant data already exists, skipping initialization");
+                        backfillCoordinates();
                 }
         }
 
@@ -74,6 +90,31 @@ public class DataLoader implements CommandLineRunner {
                                 new Hotel(null, "Baan Thai", "Thai, Asian Fusion", "Viman Nagar, Pune", 4.5, 800,
                                                 "https://images.unsplash.com/photo-1559314809-0d155014e29e?w=400"));
 
+                restaurants.forEach(DataLoader::applyLocalityCoordinates);
                 hotelRepository.saveAll(restaurants);
         }
+
+        // Databases seeded before hotels had coordinates: fill in the ones whose locality is known
+        private void backfillCoordinates() {
+                List<Hotel> missing = hotelRepository.findByLatitudeIsNullOrLongitudeIsNull();
+                List<Hotel> located = missing.stream()
+                                .filter(DataLoader::applyLocalityCoordinates)
+                                .toList();
+                if (!located.isEmpty()) {
+                        hotelRepository.saveAll(located);
+                        log.info("Backfilled coordinates for {} of {} restaurants without them",
+                                        located.size(), missing.size());
+                }
+        }
+
+        private static boolean applyLocalityCoordinates(Hotel hotel) {
+                double[] point = hotel.getLocation() == null ? null
+                                : LOCALITY_COORDINATES.get(hotel.getLocation().trim());
+                if (point == null) {
+                        return false;
+                }
+                hotel.setLatitude(point[0]);
+                hotel.setLongitude(point[1]);
+                return true;
+        }
 }
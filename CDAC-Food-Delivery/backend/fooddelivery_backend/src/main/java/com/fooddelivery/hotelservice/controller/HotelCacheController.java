@@ -0,0 +1,30 @@
+package com.fooddelivery.hotelservice.controller;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import com.fooddelivery.hotelservice.cache.HotelInvalidation;
+import com.fooddelivery.hotelservice.service.HotelService;
+
+// Called by peer hotel-service instances after a hotel write. The gateway refuses /internal/**
+// and InternalTokenFilter requires X-Internal-Token; the payload is still only a hint, since
+// applyPeerInvalidation re-reads the hotel instead of trusting its version or deleted flag.
+@RestController
+@RequestMapping("/internal/hotels/cache")
+public class HotelCacheController {
+
+    private final HotelService hotelService;
+
+    public HotelCacheController(HotelService hotelService) {
+        this.hotelService = hotelService;
+    }
+
+    @PostMapping("/invalidate")
+    public ResponseEntity<Void> invalidate(@RequestBody HotelInvalidation invalidation) {
+        if (invalidation.hotelId() == null || invalidation.hotelId() <= 0) {
+            return ResponseEntity.badRequest().build();
+        }
+        hotelService.applyPeerInvalidation(invalidation);
+        return ResponseEntity.noContent().build();
+    }
+}
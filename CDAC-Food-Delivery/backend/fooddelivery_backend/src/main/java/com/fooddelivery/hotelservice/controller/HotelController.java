@@ -6,28 +6,98 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import com.fooddelivery.hotelservice.DTO.HotelListResponseDTO;
+import com.fooddelivery.hotelservice.DTO.HotelPageResponse;
+import com.fooddelivery.hotelservice.DTO.NearbyHotelDTO;
+import com.fooddelivery.hotelservice.DTO.ReviewRequest;
 import com.fooddelivery.hotelservice.entity.Hotel;
+import com.fooddelivery.hotelservice.entity.HotelReview;
+import com.fooddelivery.hotelservice.service.DuplicateReviewException;
 import com.fooddelivery.hotelservice.service.HotelService;
+import com.fooddelivery.hotelservice.service.ReviewService;
+import com.fooddelivery.orderservice.pricing.PricingUnavailableException;
 
 @RestController
 @RequestMapping("/api/hotels")
 public class HotelController {
 
+    private static final int DEFAULT_PAGE_SIZE = 20;
+
     private final HotelService hotelService;
+    private final ReviewService reviewService;
 
-    public HotelController(HotelService hotelService) {
+    public HotelController(HotelService hotelService, ReviewService reviewService) {
         this.hotelService = hotelService;
+        this.reviewService = reviewService;
     }
 
+    // Without paging parameters this is the full list, as before. With any of
+    // them it is a keyset page: {hotels, nextPageToken}.
     @GetMapping
-    public List<HotelListResponseDTO> getHotels() {
-        return hotelService.getAllHotels();
+    public ResponseEntity<?> getHotels(@RequestParam(required = false) String sort,
+                                       @RequestParam(required = false) String pageToken,
+                                       @RequestParam(required = false) Integer size,
+                                       @RequestParam(required = false) String fields) {
+        if (sort == null && pageToken == null && size == null && fields == null) {
+            return ResponseEntity.ok(hotelService.getAllHotels());
+        }
+        try {
+            HotelPageResponse page = hotelService.getHotelPage(sort, pageToken,
+                    size == null ? DEFAULT_PAGE_SIZE : size, fields);
+            return ResponseEntity.ok(page);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(new ErrorResponse(e.getMessage()));
+        }
     }
 
     @GetMapping("/top-rated")
-    public List<HotelListResponseDTO> getTopRatedHotels() {
-        return hotelService.getTopRatedHotels();
+    public ResponseEntity<?> getTopRatedHotels(@RequestParam(defaultValue = "3") int k,
+                                               @RequestParam(required = false) String cuisine) {
+        try {
+            return ResponseEntity.ok(hotelService.getTopRatedHotels(k, cuisine));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(new ErrorResponse(e.getMessage()));
+        }
+    }
+
+    // Listing sidebar: values within a facet are ORed, facets are ANDed.
+    // price and rating take band labels as returned in the facet counts.
+    @GetMapping("/facets")
+    public ResponseEntity<?> getFacetedHotels(@RequestParam(required = false) List<String> cuisine,
+                                              @RequestParam(required = false) List<String> price,
+                                              @RequestParam(required = false) List<String> rating,
+                                              @RequestParam(defaultValue = "any") String cuisineMode,
+                                              @RequestParam(defaultValue = "20") int limit) {
+        try {
+            return ResponseEntity.ok(hotelService.getFacetedHotels(cuisine, price, rating, cuisineMode, limit));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(new ErrorResponse(e.getMessage()));
+        }
+    }
+
+    // Nearest first. Without radiusKm this is a plain k-nearest query.
+    @GetMapping("/nearby")
+    public ResponseEntity<?> getNearbyHotels(@RequestParam double lat,
+                                             @RequestParam double lng,
+                                             @RequestParam(required = false) Double radiusKm,
+                                             @RequestParam(defaultValue = "10") int limit,
+                                             @RequestParam(required = false) String cuisine,
+                                             @RequestParam(required = false) Double minRating) {
+        try {
+            List<NearbyHotelDTO> hotels = hotelService.getNearbyHotels(lat, lng, radiusKm, limit,
+                    cuisine, minRating);
+            return ResponseEntity.ok(hotels);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(new ErrorResponse(e.getMessage()));
+        }
+    }
+
+    @GetMapping("/ids")
+    public List<Long> getHotelIds() {
+        return hotelService.getAllHotelIds();
     }
 
     @GetMapping("/{id}")
@@ -52,11 +122,34 @@ public class HotelController {
         }
     }
 
+    // Customer review of a delivered order; the hotel's rating follows within a flush interval
+    @PostMapping("/{id}/reviews")
+    public ResponseEntity<?> submitReview(@PathVariable Long id, @RequestBody ReviewRequest request) {
+        try {
+            HotelReview review = reviewService.submitReview(id, request);
+            return ResponseEntity.status(HttpStatus.CREATED).body(review);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(new ErrorResponse(e.getMessage()));
+        } catch (DuplicateReviewException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT)
+                    .body(new ErrorResponse(e.getMessage()));
+        } catch (PricingUnavailableException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .body(new ErrorResponse("Menu service is unavailable, please try again"));
+        } catch (RuntimeException e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
+
     @PutMapping("/{id}")
-    public ResponseEntity<Hotel> updateHotel(@PathVariable Long id, @RequestBody Hotel hotel) {
+    public ResponseEntity<?> updateHotel(@PathVariable Long id, @RequestBody Hotel hotel) {
         try {
             Hotel updatedHotel = hotelService.updateHotel(id, hotel);
             return ResponseEntity.ok(updatedHotel);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(new ErrorResponse(e.getMessage()));
         } catch (RuntimeException e) {
             return ResponseEntity.notFound().build();
         } catch (Exception e) {
@@ -10,7 +10,11 @@ import lombok.NoArgsConstructor;
 @Data // adds getters, setters, toString, equals, hashCode
 @NoArgsConstructor
 @AllArgsConstructor
-@Table(name = "hotels")
+@Table(name = "hotels", indexes = {
+        // Keyset pagination of GET /api/hotels by rating or price
+        @Index(name = "idx_hotels_rating_id", columnList = "rating, id"),
+        @Index(name = "idx_hotels_price_id", columnList = "price, id")
+})
 public class Hotel {
 
     @Id
@@ -41,4 +45,34 @@ public class Hotel {
     @Column(name = "image_url")
     @JsonProperty("imageUrl") // Match C# property name
     private String imageUrl;
+
+    // Optional; hotels without coordinates are left out of nearby search
+    @JsonProperty("latitude")
+    private Double latitude;
+
+    @JsonProperty("longitude")
+    private Double longitude;
+
+    // Running review totals behind the smoothed rating. Written only by
+    // ReviewAggregator's batched flush, never by entity saves, so an admin
+    // update cannot overwrite a concurrent flush. Once a hotel has reviews
+    // the flush also owns its rating.
+    @Column(name = "review_sum", insertable = false, updatable = false)
+    @JsonProperty(value = "reviewSum", access = JsonProperty.Access.READ_ONLY)
+    private Long reviewSum;
+
+    @Column(name = "review_count", insertable = false, updatable = false)
+    @JsonProperty(value = "reviewCount", access = JsonProperty.Access.READ_ONLY)
+    private Long reviewCount;
+
+    // Bumped by every write, including review flushes; stamps near-cache invalidations
+    @Version
+    @Column(nullable = false, columnDefinition = "bigint default 0")
+    @JsonProperty(value = "version", access = JsonProperty.Access.READ_ONLY)
+    private Long version;
+
+    public Hotel(Long id, String name, String cuisine, String location, Double rating, Integer price,
+                 String imageUrl) {
+        this(id, name, cuisine, location, rating, price, imageUrl, null, null, null, null, null);
+    }
 }
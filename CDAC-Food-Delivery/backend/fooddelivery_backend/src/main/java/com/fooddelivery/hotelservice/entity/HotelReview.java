@@ -0,0 +1,51 @@
+package com.fooddelivery.hotelservice.entity;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// Append-only; the hotel's rating is aggregated from these in batches, never with AVG()
+@Entity
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "hotel_reviews", indexes = {
+        @Index(name = "idx_reviews_hotel_date", columnList = "hotel_id, created_at"),
+        // ReviewAggregator's claim of reviews not yet added to their hotel
+        @Index(name = "idx_reviews_aggregated", columnList = "aggregated, id")
+}, uniqueConstraints = {
+        @UniqueConstraint(name = "uk_reviews_order", columnNames = "order_id") // one review per order
+})
+public class HotelReview {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "hotel_id", nullable = false)
+    private Long hotelId;
+
+    @Column(name = "order_id", nullable = false)
+    private Long orderId;
+
+    @Column(name = "user_email", nullable = false)
+    private String userEmail;
+
+    @Column(nullable = false)
+    private Integer rating;
+
+    @Column(length = 1000)
+    private String comment;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    // Set once the rating is in hotels.review_sum / review_count. Rows that
+    // existed before this column were already folded into hotels.rating,
+    // hence default 1; new reviews are saved with 0.
+    @Column(nullable = false, columnDefinition = "bit(1) not null default 1")
+    private boolean aggregated;
+}
@@ -0,0 +1,33 @@
+package com.fooddelivery.hotelservice.index;
+
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Hotel.cuisine is free text such as "Pan Asian, Thai, Chinese". Indexes
+ * match on its individual tags, lower-cased and trimmed.
+ */
+public final class CuisineTags {
+
+    private CuisineTags() {
+    }
+
+    public static Set<String> of(String cuisine) {
+        Set<String> tags = new LinkedHashSet<>();
+        if (cuisine == null) {
+            return tags;
+        }
+        for (String tag : cuisine.split("[,/&]")) {
+            String normalized = normalize(tag);
+            if (!normalized.isEmpty()) {
+                tags.add(normalized);
+            }
+        }
+        return tags;
+    }
+
+    public static String normalize(String tag) {
+        return tag == null ? "" : tag.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+}
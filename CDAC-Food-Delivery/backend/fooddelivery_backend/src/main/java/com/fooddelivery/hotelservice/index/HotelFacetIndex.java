@@ -0,0 +1,186 @@
+package com.fooddelivery.hotelservice.index;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.stereotype.Component;
+
+import com.fooddelivery.hotelservice.DTO.FacetSearchResponse;
+import com.fooddelivery.hotelservice.DTO.HotelListResponseDTO;
+import com.fooddelivery.hotelservice.entity.Hotel;
+
+/**
+ * One compressed bitmap of hotel ids per facet value: cuisine tag, price band
+ * and rating band. A filter ORs the selected values within a facet (or ANDs
+ * them, for cuisine in "all" mode) and ANDs the facets together.
+ *
+ * Facet counts are disjunctive: each facet is counted against the hotels
+ * matched by the other facets' selections, so the sidebar shows what a click
+ * would return rather than collapsing to the current selection.
+ *
+ * Readers and writers share one lock; hotel writes are rare and a query is a
+ * handful of bitmap operations.
+ */
+@Component
+public class HotelFacetIndex implements HotelIndex {
+
+    public static final String CUISINE = "cuisine";
+    public static final String PRICE = "price";
+    public static final String RATING = "rating";
+
+    // Cost for two, lower bound inclusive
+    private static final int[] PRICE_BANDS = {0, 300, 600, 1000};
+    // Minimum rating, cumulative: a 4.6 hotel is in all of 4.5, 4.0, 3.5 and 3.0
+    private static final double[] RATING_BANDS = {4.5, 4.0, 3.5, 3.0};
+
+    private final Map<String, Map<String, RoaringBitmap>> bitmaps = new LinkedHashMap<>();
+    private final Map<Integer, Indexed> hotels = new HashMap<>();
+    private final RoaringBitmap all = new RoaringBitmap();
+
+    public HotelFacetIndex() {
+        bitmaps.put(CUISINE, new TreeMap<>());
+        bitmaps.put(PRICE, new LinkedHashMap<>());
+        bitmaps.put(RATING, new LinkedHashMap<>());
+        for (int i = 0; i < PRICE_BANDS.length; i++) {
+            bitmaps.get(PRICE).put(priceBandLabel(i), new RoaringBitmap());
+        }
+        for (double band : RATING_BANDS) {
+            bitmaps.get(RATING).put(String.valueOf(band), new RoaringBitmap());
+        }
+    }
+
+    @Override
+    public synchronized void upsert(Hotel hotel) {
+        remove(hotel.getId());
+        int id = Math.toIntExact(hotel.getId());
+        List<RoaringBitmap> memberships = new ArrayList<>();
+        for (String tag : CuisineTags.of(hotel.getCuisine())) {
+            memberships.add(bitmaps.get(CUISINE).computeIfAbsent(tag, t -> new RoaringBitmap()));
+        }
+        if (hotel.getPrice() != null) {
+            memberships.add(bitmaps.get(PRICE).get(priceBandLabel(priceBand(hotel.getPrice()))));
+        }
+        if (hotel.getRating() != null) {
+            for (double band : RATING_BANDS) {
+                if (hotel.getRating() >= band) {
+                    memberships.add(bitmaps.get(RATING).get(String.valueOf(band)));
+                }
+            }
+        }
+        memberships.forEach(bitmap -> bitmap.add(id));
+        all.add(id);
+        hotels.put(id, new Indexed(new HotelListResponseDTO(hotel), memberships));
+    }
+
+    @Override
+    public synchronized void remove(Long hotelId) {
+        Indexed indexed = hotels.remove(Math.toIntExact(hotelId));
+        if (indexed == null) {
+            return;
+        }
+        int id = Math.toIntExact(hotelId);
+        indexed.memberships().forEach(bitmap -> bitmap.remove(id));
+        all.remove(id);
+        // Cuisine tags come and go with hotels; bands are fixed
+        bitmaps.get(CUISINE).values().removeIf(RoaringBitmap::isEmpty);
+    }
+
+    @Override
+    public synchronized void rebuild(Collection<Hotel> current) {
+        new ArrayList<>(hotels.keySet()).forEach(id -> remove((long) id));
+        current.forEach(this::upsert);
+    }
+
+    /**
+     * Hotels matching every facet's selection, best rated first, plus counts
+     * for every facet value. A facet with no selection does not filter.
+     */
+    public synchronized FacetSearchResponse search(Map<String, List<String>> selections, boolean allCuisines,
+                                                   int limit) {
+        Map<String, RoaringBitmap> matchedByFacet = new HashMap<>();
+        for (Map.Entry<String, Map<String, RoaringBitmap>> facet : bitmaps.entrySet()) {
+            List<String> selected = selections.getOrDefault(facet.getKey(), List.of());
+            if (!selected.isEmpty()) {
+                boolean and = allCuisines && facet.getKey().equals(CUISINE);
+                matchedByFacet.put(facet.getKey(), combine(facet.getValue(), selected, and));
+            }
+        }
+
+        RoaringBitmap matched = andAll(matchedByFacet, null);
+        Map<String, Map<String, Integer>> counts = new LinkedHashMap<>();
+        for (Map.Entry<String, Map<String, RoaringBitmap>> facet : bitmaps.entrySet()) {
+            RoaringBitmap others = andAll(matchedByFacet, facet.getKey());
+            Map<String, Integer> valueCounts = new LinkedHashMap<>();
+            facet.getValue().forEach((value, bitmap) ->
+                    valueCounts.put(value, RoaringBitmap.andCardinality(bitmap, others)));
+            counts.put(facet.getKey(), valueCounts);
+        }
+
+        List<HotelListResponseDTO> page = new ArrayList<>(matched.getCardinality());
+        matched.forEach((int id) -> page.add(hotels.get(id).hotel()));
+        page.sort(Comparator.comparing((HotelListResponseDTO h) -> h.getRating() == null ? 0 : h.getRating())
+                .reversed()
+                .thenComparing(HotelListResponseDTO::getId));
+        return new FacetSearchResponse(matched.getCardinality(),
+                page.size() > limit ? new ArrayList<>(page.subList(0, limit)) : page, counts);
+    }
+
+    /** The fixed values of the price or rating facet. */
+    public List<String> bands(String facet) {
+        return List.copyOf(bitmaps.get(facet).keySet());
+    }
+
+    private static RoaringBitmap combine(Map<String, RoaringBitmap> values, List<String> selected, boolean and) {
+        RoaringBitmap result = null;
+        for (String value : selected) {
+            RoaringBitmap bitmap = values.getOrDefault(value, new RoaringBitmap());
+            if (result == null) {
+                result = bitmap.clone();
+            } else if (and) {
+                result.and(bitmap);
+            } else {
+                result.or(bitmap);
+            }
+        }
+        return result;
+    }
+
+    // Intersection of every facet's matches except the skipped one
+    private RoaringBitmap andAll(Map<String, RoaringBitmap> matchedByFacet, String skip) {
+        RoaringBitmap result = all.clone();
+        matchedByFacet.forEach((facet, matched) -> {
+            if (!facet.equals(skip)) {
+                result.and(matched);
+            }
+        });
+        return result;
+    }
+
+    private static int priceBand(int price) {
+        int band = 0;
+        while (band + 1 < PRICE_BANDS.length && price >= PRICE_BANDS[band + 1]) {
+            band++;
+        }
+        return band;
+    }
+
+    // "under-300", "300-600", ..., "above-1000"; no '+', which would not survive a query string
+    private static String priceBandLabel(int band) {
+        if (band == 0) {
+            return "under-" + PRICE_BANDS[1];
+        }
+        return band + 1 < PRICE_BANDS.length
+                ? PRICE_BANDS[band] + "-" + PRICE_BANDS[band + 1]
+                : "above-" + PRICE_BANDS[band];
+    }
+
+    private record Indexed(HotelListResponseDTO hotel, List<RoaringBitmap> memberships) {
+    }
+}
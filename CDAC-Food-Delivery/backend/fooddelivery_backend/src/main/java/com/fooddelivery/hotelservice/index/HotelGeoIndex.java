@@ -0,0 +1,219 @@
+package com.fooddelivery.hotelservice.index;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.fooddelivery.hotelservice.DTO.NearbyHotelDTO;
+import com.fooddelivery.hotelservice.entity.Hotel;
+
+/**
+ * Hotels with coordinates bucketed into a fixed latitude/longitude grid.
+ *
+ * A query visits the cells in rings around the query point's cell, nearest
+ * ring first, keeping the k best hits in a bounded max-heap. It stops once the
+ * next ring cannot hold anything closer than the current k-th hit or the
+ * radius. Once a ring would have more cells than there are occupied cells, the
+ * remaining occupied cells are scanned directly instead, so sparse data far
+ * away never costs more than one pass.
+ *
+ * Writers are serialized; readers never lock. A rebuild fills a new grid off
+ * to the side and publishes it with one volatile write, so a reader sees
+ * either the old grid or the new one, never a half-filled one. Longitudes do
+ * not wrap around the antimeridian.
+ */
+@Component
+public class HotelGeoIndex implements HotelIndex {
+
+    private static final double EARTH_RADIUS_KM = 6371.0088;
+    private static final double KM_PER_DEGREE = Math.toRadians(1) * EARTH_RADIUS_KM;
+
+    private final double cellDegrees;
+    private final long lngCells;
+    private volatile Grid grid = new Grid();
+
+    public HotelGeoIndex(@Value("${hotel.geo.cell-degrees:0.01}") double cellDegrees) {
+        this.cellDegrees = cellDegrees;
+        this.lngCells = (long) Math.ceil(360 / cellDegrees) + 1;
+    }
+
+    @Override
+    public synchronized void upsert(Hotel hotel) {
+        upsert(grid, hotel);
+    }
+
+    @Override
+    public synchronized void remove(Long hotelId) {
+        remove(grid, hotelId);
+    }
+
+    @Override
+    public synchronized void rebuild(Collection<Hotel> all) {
+        Grid fresh = new Grid();
+        all.forEach(hotel -> upsert(fresh, hotel));
+        grid = fresh;
+    }
+
+    public int size() {
+        return grid.hotels().size();
+    }
+
+    private void upsert(Grid target, Hotel hotel) {
+        remove(target, hotel.getId());
+        if (hotel.getLatitude() == null || hotel.getLongitude() == null) {
+            return;
+        }
+        GeoHotel geo = new GeoHotel(hotel.getId(), hotel.getName(), hotel.getCuisine(), hotel.getLocation(),
+                hotel.getRating(), hotel.getPrice(), hotel.getImageUrl(), hotel.getLatitude(),
+                hotel.getLongitude(), CuisineTags.of(hotel.getCuisine()),
+                latIndex(hotel.getLatitude()), lngIndex(hotel.getLongitude()));
+        target.hotels().put(geo.id(), geo);
+        target.cells().computeIfAbsent(cellKey(geo.latIndex(), geo.lngIndex()), key -> new ConcurrentHashMap<>())
+                .put(geo.id(), geo);
+    }
+
+    private void remove(Grid target, Long hotelId) {
+        GeoHotel geo = target.hotels().remove(hotelId);
+        if (geo != null) {
+            target.cells().computeIfPresent(cellKey(geo.latIndex(), geo.lngIndex()), (key, cell) -> {
+                cell.remove(hotelId);
+                return cell.isEmpty() ? null : cell;
+            });
+        }
+    }
+
+    /**
+     * Up to k hotels within radiusKm of the point, nearest first. cuisine (a
+     * single tag) and minRating are optional filters.
+     */
+    public List<NearbyHotelDTO> nearest(double lat, double lng, double radiusKm, int k,
+                                        String cuisine, Double minRating) {
+        Map<Long, Map<Long, GeoHotel>> cells = grid.cells();
+        String tag = cuisine == null || cuisine.isBlank() ? null : CuisineTags.normalize(cuisine);
+        Comparator<Hit> farthestFirst = Comparator.comparingDouble(Hit::distanceKm).reversed();
+        PriorityQueue<Hit> best = new PriorityQueue<>(k + 1, farthestFirst);
+        Search search = new Search(lat, lng, radiusKm, k, tag, minRating, best);
+
+        int centerLat = latIndex(lat);
+        long centerLng = lngIndex(lng);
+        for (int ring = 0; ; ring++) {
+            double ringMinKm = minDistanceKm(ring, lat);
+            if (ringMinKm > radiusKm || (best.size() == k && ringMinKm > best.peek().distanceKm())) {
+                break;
+            }
+            long ringCells = ring == 0 ? 1 : 8L * ring;
+            if (ringCells > cells.size()) {
+                for (Map.Entry<Long, Map<Long, GeoHotel>> cell : cells.entrySet()) {
+                    long key = cell.getKey();
+                    long latOffset = Math.abs(key / lngCells - centerLat);
+                    long lngOffset = Math.abs(key % lngCells - centerLng);
+                    if (Math.max(latOffset, lngOffset) >= ring) {
+                        search.visit(cell.getValue());
+                    }
+                }
+                break;
+            }
+            for (int dLat = -ring; dLat <= ring; dLat++) {
+                // Full rows at the top and bottom edge, only the two sides in between
+                int step = Math.abs(dLat) == ring ? 1 : 2 * ring;
+                for (int dLng = -ring; dLng <= ring; dLng += step) {
+                    Map<Long, GeoHotel> cell = cells.get(cellKey(centerLat + dLat, centerLng + dLng));
+                    if (cell != null) {
+                        search.visit(cell);
+                    }
+                }
+            }
+        }
+
+        List<Hit> hits = new ArrayList<>(best);
+        hits.sort(farthestFirst.reversed());
+        List<NearbyHotelDTO> nearby = new ArrayList<>(hits.size());
+        for (Hit hit : hits) {
+            GeoHotel h = hit.hotel();
+            nearby.add(new NearbyHotelDTO(h.id(), h.name(), h.cuisine(), h.location(), h.rating(), h.price(),
+                    h.imageUrl(), h.latitude(), h.longitude(), Math.round(hit.distanceKm() * 1000) / 1000.0));
+        }
+        return nearby;
+    }
+
+    // Lower bound on the distance from a point in the centre cell to any point
+    // in the given ring: ring - 1 whole cells, measured along the ring's
+    // shortest side (a longitude span at the most poleward latitude it reaches)
+    double minDistanceKm(int ring, double lat) {
+        if (ring <= 1) {
+            return 0;
+        }
+        double poleward = Math.min(90, Math.abs(lat) + (ring + 1) * cellDegrees);
+        return (ring - 1) * cellDegrees * KM_PER_DEGREE * Math.cos(Math.toRadians(poleward));
+    }
+
+    int latIndex(double lat) {
+        return (int) Math.floor((lat + 90) / cellDegrees);
+    }
+
+    long lngIndex(double lng) {
+        return (long) Math.floor((lng + 180) / cellDegrees);
+    }
+
+    private long cellKey(long latIndex, long lngIndex) {
+        if (lngIndex < 0 || lngIndex >= lngCells) {
+            return -1; // off the grid; never occupied
+        }
+        return latIndex * lngCells + lngIndex;
+    }
+
+    static double haversineKm(double lat1, double lng1, double lat2, double lng2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLng = Math.toRadians(lng2 - lng1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
+                * Math.sin(dLng / 2) * Math.sin(dLng / 2);
+        return 2 * EARTH_RADIUS_KM * Math.asin(Math.min(1, Math.sqrt(a)));
+    }
+
+    private record Search(double lat, double lng, double radiusKm, int k, String cuisine, Double minRating,
+                          PriorityQueue<Hit> best) {
+
+        void visit(Map<Long, GeoHotel> cell) {
+            for (GeoHotel hotel : cell.values()) {
+                if ((cuisine != null && !hotel.cuisineTags().contains(cuisine))
+                        || (minRating != null && (hotel.rating() == null || hotel.rating() < minRating))) {
+                    continue;
+                }
+                double distanceKm = haversineKm(lat, lng, hotel.latitude(), hotel.longitude());
+                if (distanceKm > radiusKm) {
+                    continue;
+                }
+                if (best.size() < k) {
+                    best.offer(new Hit(hotel, distanceKm));
+                } else if (distanceKm < best.peek().distanceKm()) {
+                    best.poll();
+                    best.offer(new Hit(hotel, distanceKm));
+                }
+            }
+        }
+    }
+
+    private record Hit(GeoHotel hotel, double distanceKm) {
+    }
+
+    private record Grid(Map<Long, GeoHotel> hotels, Map<Long, Map<Long, GeoHotel>> cells) {
+
+        Grid() {
+            this(new ConcurrentHashMap<>(), new ConcurrentHashMap<>());
+        }
+    }
+
+    private record GeoHotel(Long id, String name, String cuisine, String location, Double rating, Integer price,
+                            String imageUrl, double latitude, double longitude, Set<String> cuisineTags,
+                            int latIndex, long lngIndex) {
+    }
+}
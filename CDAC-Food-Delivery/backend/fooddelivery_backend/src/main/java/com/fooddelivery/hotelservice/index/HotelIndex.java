@@ -0,0 +1,20 @@
+package com.fooddelivery.hotelservice.index;
+
+import java.util.Collection;
+
+import com.fooddelivery.hotelservice.entity.Hotel;
+
+/**
+ * An in-memory view over hotels. HotelServiceImpl keeps every index current
+ * after each write, and HotelIndexLoader fills them at startup.
+ */
+public interface HotelIndex {
+
+    /** Adds the hotel or replaces its previous state. */
+    void upsert(Hotel hotel);
+
+    void remove(Long hotelId);
+
+    /** Replaces the whole index. */
+    void rebuild(Collection<Hotel> hotels);
+}
@@ -0,0 +1,52 @@
+package com.fooddelivery.hotelservice.index;
+
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.fooddelivery.hotelservice.entity.Hotel;
+import com.fooddelivery.hotelservice.repository.HotelRepository;
+
+/**
+ * Builds every HotelIndex once DataLoader has seeded an empty database, then
+ * periodically rebuilds them from the database. This is a backstop for writes
+ * the indexes missed, such as changes made directly in MySQL or a write that
+ * raced a rebuild.
+ */
+@Component
+public class HotelIndexLoader {
+
+    private static final Logger log = LoggerFactory.getLogger(HotelIndexLoader.class);
+
+    private final HotelRepository hotelRepository;
+    private final List<HotelIndex> indexes;
+
+    public HotelIndexLoader(HotelRepository hotelRepository, List<HotelIndex> indexes) {
+        this.hotelRepository = hotelRepository;
+        this.indexes = indexes;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        List<Hotel> hotels = hotelRepository.findAll();
+        indexes.forEach(index -> index.rebuild(hotels));
+        log.info("Hotel indexes built from {} hotels", hotels.size());
+    }
+
+    @Scheduled(initialDelayString = "${hotel.index.reconcile-ms:600000}",
+            fixedDelayString = "${hotel.index.reconcile-ms:600000}")
+    public void reconcile() {
+        try {
+            List<Hotel> hotels = hotelRepository.findAll();
+            indexes.forEach(index -> index.rebuild(hotels));
+            log.debug("Hotel indexes reconciled against {} hotels", hotels.size());
+        } catch (Exception e) {
+            log.warn("Hotel index reconciliation failed: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.fooddelivery.hotelservice.index;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+import org.springframework.stereotype.Component;
+
+import com.fooddelivery.hotelservice.DTO.HotelListResponseDTO;
+import com.fooddelivery.hotelservice.entity.Hotel;
+
+/**
+ * Hotels ordered by rating, overall and per cuisine tag, so the top k of any
+ * of them is the first k entries of a sorted set.
+ *
+ * Each set holds every hotel of its scope rather than only the current top k;
+ * that way a delete or a rating drop never leaves a gap that needs the
+ * database to fill. Writers are serialized; readers never lock. A rebuild
+ * fills new sets off to the side and publishes them with one volatile write,
+ * so a reader never sees the index empty or half-filled.
+ */
+@Component
+public class HotelRatingIndex implements HotelIndex {
+
+    private static final String OVERALL = "";
+
+    // Best rated first; the lower id wins a tie, matching the old query's stable order
+    private static final Comparator<Ranked> ORDER = Comparator.comparingDouble(Ranked::rating).reversed()
+            .thenComparingLong(Ranked::id);
+
+    private volatile Ranking ranking = new Ranking();
+
+    @Override
+    public synchronized void upsert(Hotel hotel) {
+        upsert(ranking, hotel);
+    }
+
+    @Override
+    public synchronized void remove(Long hotelId) {
+        remove(ranking, hotelId);
+    }
+
+    @Override
+    public synchronized void rebuild(Collection<Hotel> hotels) {
+        Ranking fresh = new Ranking();
+        hotels.forEach(hotel -> upsert(fresh, hotel));
+        ranking = fresh;
+    }
+
+    /** The k best rated hotels, overall or for one cuisine tag. */
+    public List<HotelListResponseDTO> top(String cuisine, int k) {
+        String scope = cuisine == null || cuisine.isBlank() ? OVERALL : CuisineTags.normalize(cuisine);
+        NavigableSet<Ranked> ranked = ranking.byScope().get(scope);
+        if (ranked == null) {
+            return List.of();
+        }
+        List<HotelListResponseDTO> top = new ArrayList<>(k);
+        for (Ranked entry : ranked) {
+            if (top.size() == k) {
+                break;
+            }
+            top.add(entry.hotel());
+        }
+        return top;
+    }
+
+    private static void upsert(Ranking target, Hotel hotel) {
+        remove(target, hotel.getId());
+        Ranked ranked = new Ranked(hotel.getRating() == null ? 0 : hotel.getRating(), hotel.getId(),
+                CuisineTags.of(hotel.getCuisine()), new HotelListResponseDTO(hotel));
+        target.byId().put(ranked.id(), ranked);
+        target.scope(OVERALL).add(ranked);
+        ranked.cuisineTags().forEach(tag -> target.scope(tag).add(ranked));
+    }
+
+    private static void remove(Ranking target, Long hotelId) {
+        Ranked ranked = target.byId().remove(hotelId);
+        if (ranked == null) {
+            return;
+        }
+        target.byScope().get(OVERALL).remove(ranked);
+        for (String tag : ranked.cuisineTags()) {
+            target.byScope().computeIfPresent(tag, (t, set) -> {
+                set.remove(ranked);
+                return set.isEmpty() ? null : set;
+            });
+        }
+    }
+
+    private record Ranked(double rating, long id, Set<String> cuisineTags, HotelListResponseDTO hotel) {
+    }
+
+    private record Ranking(Map<Long, Ranked> byId, Map<String, NavigableSet<Ranked>> byScope) {
+
+        Ranking() {
+            this(new ConcurrentHashMap<>(), new ConcurrentHashMap<>());
+        }
+
+        NavigableSet<Ranked> scope(String scope) {
+            return byScope.computeIfAbsent(scope, s -> new ConcurrentSkipListSet<>(ORDER));
+        }
+    }
+}
@@ -1,13 +1,25 @@
 package com.fooddelivery.hotelservice.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import com.fooddelivery.hotelservice.DTO.HotelListResponseDTO;
 import com.fooddelivery.hotelservice.entity.Hotel;
 
 import java.util.List;
 
 @Repository
-public interface HotelRepository extends JpaRepository<Hotel, Long> {
-    List<Hotel> findTop3ByOrderByRatingDesc();
+public interface HotelRepository extends JpaRepository<Hotel, Long>, HotelRepositoryCustom {
+    // Ids only, for other services that just need to know which hotels exist
+    @Query("select h.id from Hotel h order by h.id")
+    List<Long> findAllIds();
+
+    // Full listing straight into the DTO; no managed entities
+    @Query("select new com.fooddelivery.hotelservice.DTO.HotelListResponseDTO("
+            + "h.id, h.name, h.cuisine, h.location, h.rating, h.price, h.imageUrl) from Hotel h")
+    List<HotelListResponseDTO> findAllListings();
+
+    // Hotels left out of nearby search, for the coordinate backfill
+    List<Hotel> findByLatitudeIsNullOrLongitudeIsNull();
 }
@@ -0,0 +1,18 @@
+package com.fooddelivery.hotelservice.repository;
+
+import java.util.List;
+import java.util.Set;
+
+import jakarta.persistence.Tuple;
+
+public interface HotelRepositoryCustom {
+
+    /**
+     * One keyset page of hotels as tuples holding only the requested columns
+     * (aliased by attribute name), plus id and the sort column. Rows are ordered
+     * by (sortAttribute, id), both in the same direction, so the
+     * (sortAttribute, id) index serves the scan either way.
+     */
+    List<Tuple> findPage(Set<String> attributes, String sortAttribute, boolean descending,
+                         Comparable<?> afterValue, Long afterId, int limit);
+}
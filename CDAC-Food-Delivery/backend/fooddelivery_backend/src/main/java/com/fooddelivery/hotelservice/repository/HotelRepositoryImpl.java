@@ -0,0 +1,64 @@
+package com.fooddelivery.hotelservice.repository;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+
+import com.fooddelivery.hotelservice.entity.Hotel;
+
+class HotelRepositoryImpl implements HotelRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public List<Tuple> findPage(Set<String> attributes, String sortAttribute, boolean descending,
+                                Comparable<?> afterValue, Long afterId, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Hotel> hotel = query.from(Hotel.class);
+
+        Set<String> selected = new LinkedHashSet<>();
+        selected.add("id");
+        selected.add(sortAttribute);
+        selected.addAll(attributes);
+        List<Selection<?>> columns = new ArrayList<>(selected.size());
+        for (String attribute : selected) {
+            columns.add(hotel.get(attribute).alias(attribute));
+        }
+        query.multiselect(columns);
+
+        Path<Comparable> sortKey = hotel.get(sortAttribute);
+        Path<Long> id = hotel.get("id");
+        if (afterValue != null && afterId != null) {
+            Comparable value = afterValue;
+            // (sortKey, id) strictly after the cursor in the scan direction
+            Predicate after = descending
+                    ? cb.or(cb.lessThan(sortKey, value),
+                            cb.and(cb.equal(sortKey, value), cb.lessThan(id, afterId)))
+                    : cb.or(cb.greaterThan(sortKey, value),
+                            cb.and(cb.equal(sortKey, value), cb.greaterThan(id, afterId)));
+            query.where(after);
+        }
+        query.orderBy(descending
+                ? List.of(cb.desc(sortKey), cb.desc(id))
+                : List.of(cb.asc(sortKey), cb.asc(id)));
+
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .setHint("org.hibernate.readOnly", true)
+                .getResultList();
+    }
+}
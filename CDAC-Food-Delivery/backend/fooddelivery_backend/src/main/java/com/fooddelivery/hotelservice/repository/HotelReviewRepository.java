@@ -0,0 +1,14 @@
+package com.fooddelivery.hotelservice.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import com.fooddelivery.hotelservice.entity.HotelReview;
+
+@Repository
+public interface HotelReviewRepository extends JpaRepository<HotelReview, Long> {
+
+    boolean existsByOrderId(Long orderId);
+
+    boolean existsByHotelId(Long hotelId);
+}
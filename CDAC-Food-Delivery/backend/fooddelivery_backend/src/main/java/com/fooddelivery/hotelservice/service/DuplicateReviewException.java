@@ -0,0 +1,8 @@
+package com.fooddelivery.hotelservice.service;
+
+public class DuplicateReviewException extends RuntimeException {
+
+    public DuplicateReviewException(String message) {
+        super(message);
+    }
+}
@@ -3,13 +3,38 @@ package com.fooddelivery.hotelservice.service;
 import java.util.List;
 import java.util.Optional;
 
+import com.fooddelivery.hotelservice.DTO.FacetSearchResponse;
 import com.fooddelivery.hotelservice.DTO.HotelListResponseDTO;
+import com.fooddelivery.hotelservice.DTO.HotelPageResponse;
+import com.fooddelivery.hotelservice.DTO.NearbyHotelDTO;
+import com.fooddelivery.hotelservice.cache.HotelInvalidation;
 import com.fooddelivery.hotelservice.entity.Hotel;
 
 public interface HotelService {
     List<HotelListResponseDTO> getAllHotels();
 
-    List<HotelListResponseDTO> getTopRatedHotels();
+    /**
+     * One keyset page sorted by "rating" or "price", optionally followed by
+     * ",asc" or ",desc". fields is a comma-separated subset of the listing
+     * fields; null means all of them.
+     */
+    HotelPageResponse getHotelPage(String sort, String pageToken, int size, String fields);
+
+    /** Served from memory; cuisine is a single tag such as "thai". */
+    List<HotelListResponseDTO> getTopRatedHotels(int k, String cuisine);
+
+    /**
+     * Hotels matching any of the selected values within each facet (all of the
+     * cuisines when cuisineMode is "all"), with sidebar counts per facet value.
+     */
+    FacetSearchResponse getFacetedHotels(List<String> cuisines, List<String> priceBands,
+                                         List<String> ratingBands, String cuisineMode, int limit);
+
+    /** Nearest hotels first; radiusKm null means no distance limit. */
+    List<NearbyHotelDTO> getNearbyHotels(double latitude, double longitude, Double radiusKm, int limit,
+                                         String cuisine, Double minRating);
+
+    List<Long> getAllHotelIds();
 
     Optional<Hotel> getHotelById(Long id);
 
@@ -18,4 +43,10 @@ public interface HotelService {
     Hotel updateHotel(Long id, Hotel hotel);
 
     void deleteHotel(Long id);
+
+    /**
+     * A peer instance changed a hotel; refresh this instance's cache and indexes if it is news.
+     * Only the hotel id is trusted; the current state is re-read from the database.
+     */
+    void applyPeerInvalidation(HotelInvalidation invalidation);
 }
@@ -1,42 +1,199 @@
 package com.fooddelivery.hotelservice.service;
 
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import com.fooddelivery.clients.MenuServiceClient;
+import com.fooddelivery.hotelservice.DTO.FacetSearchResponse;
 import com.fooddelivery.hotelservice.DTO.HotelListResponseDTO;
+import com.fooddelivery.hotelservice.DTO.HotelPageResponse;
+import com.fooddelivery.hotelservice.DTO.NearbyHotelDTO;
+import com.fooddelivery.hotelservice.cache.HotelCacheBroadcaster;
+import com.fooddelivery.hotelservice.cache.HotelInvalidation;
+import com.fooddelivery.hotelservice.cache.HotelNearCache;
 import com.fooddelivery.hotelservice.entity.Hotel;
+import com.fooddelivery.hotelservice.index.CuisineTags;
+import com.fooddelivery.hotelservice.index.HotelFacetIndex;
+import com.fooddelivery.hotelservice.index.HotelGeoIndex;
+import com.fooddelivery.hotelservice.index.HotelIndex;
+import com.fooddelivery.hotelservice.index.HotelRatingIndex;
 import com.fooddelivery.hotelservice.repository.HotelRepository;
+import com.fooddelivery.hotelservice.repository.HotelReviewRepository;
+
+import jakarta.persistence.Tuple;
 
 @Service
 public class HotelServiceImpl implements HotelService {
 
+    private static final Logger log = LoggerFactory.getLogger(HotelServiceImpl.class);
+
+    static final int MAX_PAGE_SIZE = 50;
+    static final int MAX_NEARBY = 100;
+    static final int MAX_TOP_RATED = 50;
+    static final int MAX_UPDATE_ATTEMPTS = 3;
+
+    private static final String DEFAULT_SORT = "rating";
+    private static final List<String> LISTING_FIELDS =
+            List.of("id", "name", "cuisine", "location", "rating", "price", "imageUrl");
+
     private final HotelRepository hotelRepository;
+    private final HotelReviewRepository reviewRepository;
+    private final MenuServiceClient menuServiceClient;
+    private final HotelGeoIndex geoIndex;
+    private final HotelRatingIndex ratingIndex;
+    private final HotelFacetIndex facetIndex;
+    private final List<HotelIndex> indexes;
+    private final HotelNearCache nearCache;
+    private final HotelCacheBroadcaster cacheBroadcaster;
 
-    public HotelServiceImpl(HotelRepository hotelRepository) {
+    public HotelServiceImpl(HotelRepository hotelRepository, HotelReviewRepository reviewRepository,
+                            MenuServiceClient menuServiceClient,
+                            HotelGeoIndex geoIndex, HotelRatingIndex ratingIndex, HotelFacetIndex facetIndex,
+                            List<HotelIndex> indexes, HotelNearCache nearCache,
+                            HotelCacheBroadcaster cacheBroadcaster) {
         this.hotelRepository = hotelRepository;
+        this.reviewRepository = reviewRepository;
+        this.menuServiceClient = menuServiceClient;
+        this.geoIndex = geoIndex;
+        this.ratingIndex = ratingIndex;
+        this.facetIndex = facetIndex;
+        this.indexes = indexes;
+        this.nearCache = nearCache;
+        this.cacheBroadcaster = cacheBroadcaster;
     }
 
     @Override
     public List<HotelListResponseDTO> getAllHotels() {
-        List<Hotel> hotels = hotelRepository.findAll();
-        return hotels.stream()
-                .map(HotelListResponseDTO::new)
-                .collect(Collectors.toList());
+        return hotelRepository.findAllListings();
     }
 
     @Override
-    public List<HotelListResponseDTO> getTopRatedHotels() {
-        return hotelRepository.findTop3ByOrderByRatingDesc().stream()
-                .map(HotelListResponseDTO::new)
+    @Transactional(readOnly = true)
+    public HotelPageResponse getHotelPage(String sort, String pageToken, int size, String fields) {
+        if (size <= 0 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("Page size must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        String[] sortParts = (sort == null || sort.isBlank() ? DEFAULT_SORT : sort)
+                .toLowerCase(Locale.ROOT).split(",");
+        String sortAttribute = sortParts[0].trim();
+        if (!sortAttribute.equals("rating") && !sortAttribute.equals("price")) {
+            throw new IllegalArgumentException("Sort must be rating or price");
+        }
+        // Best rated first, cheapest first
+        boolean descending = sortAttribute.equals("rating");
+        if (sortParts.length > 1) {
+            String direction = sortParts[1].trim();
+            if (!direction.equals("asc") && !direction.equals("desc")) {
+                throw new IllegalArgumentException("Sort direction must be asc or desc");
+            }
+            descending = direction.equals("desc");
+        }
+        String sortKey = sortAttribute + "," + (descending ? "desc" : "asc");
+        Set<String> attributes = parseFields(fields);
+
+        Comparable<?> afterValue = null;
+        Long afterId = null;
+        if (pageToken != null && !pageToken.isBlank()) {
+            HotelPageToken cursor = HotelPageToken.decode(pageToken);
+            if (!cursor.sort().equals(sortKey)) {
+                throw new IllegalArgumentException("Page token belongs to a different sort");
+            }
+            try {
+                afterValue = sortAttribute.equals("rating")
+                        ? Double.valueOf(cursor.value())
+                        : Integer.valueOf(cursor.value());
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Invalid page token");
+            }
+            afterId = cursor.id();
+        }
+
+        // Fetch one extra row to know whether another page exists
+        List<Tuple> rows = hotelRepository.findPage(attributes, sortAttribute, descending,
+                afterValue, afterId, size + 1);
+        String nextPageToken = null;
+        if (rows.size() > size) {
+            rows = rows.subList(0, size);
+            Tuple last = rows.get(size - 1);
+            nextPageToken = new HotelPageToken(sortKey, String.valueOf(last.get(sortAttribute)),
+                    last.get("id", Long.class)).encode();
+        }
+        List<HotelListResponseDTO> hotels = rows.stream()
+                .map(row -> new HotelListResponseDTO(
+                        row.get("id", Long.class),
+                        field(row, attributes, "name", String.class),
+                        field(row, attributes, "cuisine", String.class),
+                        field(row, attributes, "location", String.class),
+                        field(row, attributes, "rating", Double.class),
+                        field(row, attributes, "price", Integer.class),
+                        field(row, attributes, "imageUrl", String.class)))
                 .collect(Collectors.toList());
+        return new HotelPageResponse(hotels, nextPageToken);
+    }
+
+    @Override
+    public List<HotelListResponseDTO> getTopRatedHotels(int k, String cuisine) {
+        if (k <= 0 || k > MAX_TOP_RATED) {
+            throw new IllegalArgumentException("k must be between 1 and " + MAX_TOP_RATED);
+        }
+        return ratingIndex.top(cuisine, k);
+    }
+
+    @Override
+    public FacetSearchResponse getFacetedHotels(List<String> cuisines, List<String> priceBands,
+                                                List<String> ratingBands, String cuisineMode, int limit) {
+        if (limit <= 0 || limit > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        String mode = cuisineMode == null ? "any" : cuisineMode.trim().toLowerCase(Locale.ROOT);
+        if (!mode.equals("any") && !mode.equals("all")) {
+            throw new IllegalArgumentException("Cuisine mode must be any or all");
+        }
+        List<String> tags = new ArrayList<>();
+        if (cuisines != null) {
+            cuisines.stream().map(CuisineTags::normalize).filter(tag -> !tag.isEmpty()).forEach(tags::add);
+        }
+        Map<String, List<String>> selections = Map.of(
+                HotelFacetIndex.CUISINE, tags,
+                HotelFacetIndex.PRICE, requireBands(HotelFacetIndex.PRICE, priceBands),
+                HotelFacetIndex.RATING, requireBands(HotelFacetIndex.RATING, ratingBands));
+        return facetIndex.search(selections, mode.equals("all"), limit);
+    }
+
+    @Override
+    public List<NearbyHotelDTO> getNearbyHotels(double latitude, double longitude, Double radiusKm, int limit,
+                                                String cuisine, Double minRating) {
+        validateCoordinates(latitude, longitude);
+        if (radiusKm != null && radiusKm <= 0) {
+            throw new IllegalArgumentException("Radius must be greater than 0");
+        }
+        if (limit <= 0 || limit > MAX_NEARBY) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + MAX_NEARBY);
+        }
+        return geoIndex.nearest(latitude, longitude, radiusKm == null ? Double.MAX_VALUE : radiusKm,
+                limit, cuisine, minRating);
+    }
+
+    @Override
+    public List<Long> getAllHotelIds() {
+        return hotelRepository.findAllIds();
     }
 
     @Override
     public Optional<Hotel> getHotelById(Long id) {
-        return hotelRepository.findById(id);
+        return nearCache.get(id);
     }
 
     @Override
@@ -60,17 +217,38 @@ public class HotelServiceImpl implements HotelService {
         if (hotel.getImageUrl() == null || hotel.getImageUrl().trim().isEmpty()) {
             hotel.setImageUrl("https://via.placeholder.com/400x300?text=No+Image");
         }
+        if ((hotel.getLatitude() == null) != (hotel.getLongitude() == null)) {
+            throw new IllegalArgumentException("Latitude and longitude must be given together");
+        }
+        if (hotel.getLatitude() != null) {
+            validateCoordinates(hotel.getLatitude(), hotel.getLongitude());
+        }
 
         hotel.setName(hotel.getName().trim());
         hotel.setCuisine(hotel.getCuisine().trim());
         hotel.setLocation(hotel.getLocation().trim());
         hotel.setImageUrl(hotel.getImageUrl().trim());
 
-        return hotelRepository.save(hotel);
+        Hotel saved = hotelRepository.save(hotel);
+        afterSave(saved);
+        return saved;
     }
 
     @Override
     public Hotel updateHotel(Long id, Hotel hotelDetails) {
+        // Review flushes bump the version as well; redo the merge if one slipped in
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return applyUpdate(id, hotelDetails);
+            } catch (ObjectOptimisticLockingFailureException e) {
+                if (attempt == MAX_UPDATE_ATTEMPTS) {
+                    throw e;
+                }
+            }
+        }
+    }
+
+    private Hotel applyUpdate(Long id, Hotel hotelDetails) {
         Hotel hotel = hotelRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Hotel not found with id: " + id));
 
@@ -83,7 +261,12 @@ public class HotelServiceImpl implements HotelService {
         if (hotelDetails.getLocation() != null && !hotelDetails.getLocation().trim().isEmpty()) {
             hotel.setLocation(hotelDetails.getLocation().trim());
         }
-        if (hotelDetails.getRating() != null) {
+        if (hotelDetails.getRating() != null && !hotelDetails.getRating().equals(hotel.getRating())) {
+            // The admin rating only seeds a new hotel; once reviewed, ReviewAggregator owns it.
+            // Re-sending the current value (the admin form posts the whole hotel) is fine.
+            if (reviewRepository.existsByHotelId(id)) {
+                throw new IllegalArgumentException("Rating is computed from customer reviews for this hotel");
+            }
             hotel.setRating(hotelDetails.getRating());
         }
         if (hotelDetails.getPrice() != null && hotelDetails.getPrice() > 0) {
@@ -92,8 +275,15 @@ public class HotelServiceImpl implements HotelService {
         if (hotelDetails.getImageUrl() != null && !hotelDetails.getImageUrl().trim().isEmpty()) {
             hotel.setImageUrl(hotelDetails.getImageUrl().trim());
         }
+        if (hotelDetails.getLatitude() != null && hotelDetails.getLongitude() != null) {
+            validateCoordinates(hotelDetails.getLatitude(), hotelDetails.getLongitude());
+            hotel.setLatitude(hotelDetails.getLatitude());
+            hotel.setLongitude(hotelDetails.getLongitude());
+        }
 
-        return hotelRepository.save(hotel);
+        Hotel saved = hotelRepository.save(hotel);
+        afterSave(saved);
+        return saved;
     }
 
     @Override
@@ -101,5 +291,96 @@ public class HotelServiceImpl implements HotelService {
         Hotel hotel = hotelRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Hotel not found with id: " + id));
         hotelRepository.delete(hotel);
+        indexes.forEach(index -> index.remove(id));
+        HotelInvalidation deleted = new HotelInvalidation(id, hotel.getVersion(), true);
+        nearCache.invalidate(deleted);
+        cacheBroadcaster.publish(deleted);
+        try {
+            menuServiceClient.removeHotelFromSearch(id);
+        } catch (Exception e) {
+            log.warn("Search index not updated for deleted hotel {}: {}", id, e.getMessage());
+        }
+    }
+
+    private List<String> requireBands(String facet, List<String> selected) {
+        if (selected == null) {
+            return List.of();
+        }
+        List<String> known = facetIndex.bands(facet);
+        List<String> bands = new ArrayList<>(selected.size());
+        for (String value : selected) {
+            String band = value.trim();
+            if (!known.contains(band)) {
+                throw new IllegalArgumentException("Unknown " + facet + " band: " + band
+                        + " (expected any of " + String.join(", ", known) + ")");
+            }
+            bands.add(band);
+        }
+        return bands;
+    }
+
+    private static void validateCoordinates(double latitude, double longitude) {
+        if (latitude < -90 || latitude > 90) {
+            throw new IllegalArgumentException("Latitude must be between -90 and 90");
+        }
+        if (longitude < -180 || longitude > 180) {
+            throw new IllegalArgumentException("Longitude must be between -180 and 180");
+        }
+    }
+
+    private static Set<String> parseFields(String fields) {
+        if (fields == null || fields.isBlank()) {
+            return new LinkedHashSet<>(LISTING_FIELDS);
+        }
+        Set<String> attributes = new LinkedHashSet<>();
+        for (String field : fields.split(",")) {
+            String name = field.trim();
+            if (!LISTING_FIELDS.contains(name)) {
+                throw new IllegalArgumentException("Unknown field: " + name
+                        + " (expected any of " + String.join(", ", LISTING_FIELDS) + ")");
+            }
+            attributes.add(name);
+        }
+        return attributes;
+    }
+
+    // The sort column is always selected for the cursor, but only returned when asked for
+    private static <T> T field(Tuple row, Set<String> attributes, String name, Class<T> type) {
+        return attributes.contains(name) ? row.get(name, type) : null;
+    }
+
+    @Override
+    public void applyPeerInvalidation(HotelInvalidation invalidation) {
+        // The message only names the hotel. Version and deletion are taken from the database,
+        // so a forged {deleted: true} or huge version cannot pin the hotel out of the cache.
+        Long id = invalidation.hotelId();
+        Optional<Hotel> current = hotelRepository.findById(id);
+        HotelInvalidation verified = new HotelInvalidation(id,
+                current.map(Hotel::getVersion).orElse(null), current.isEmpty());
+        if (!nearCache.invalidate(verified)) {
+            return; // this instance already knows that version or a newer one
+        }
+        if (current.isPresent()) {
+            nearCache.put(current.get());
+            indexes.forEach(index -> index.upsert(current.get()));
+        } else {
+            indexes.forEach(index -> index.remove(id));
+        }
+    }
+
+    private void afterSave(Hotel saved) {
+        indexes.forEach(index -> index.upsert(saved));
+        nearCache.put(saved);
+        cacheBroadcaster.publish(new HotelInvalidation(saved.getId(), saved.getVersion(), false));
+        updateSearchIndex(saved);
+    }
+
+    // Best effort: menu-service also re-syncs restaurants periodically
+    private void updateSearchIndex(Hotel hotel) {
+        try {
+            menuServiceClient.indexHotel(new HotelListResponseDTO(hotel));
+        } catch (Exception e) {
+            log.warn("Search index not updated for hotel {}: {}", hotel.getId(), e.getMessage());
+        }
     }
 }
@@ -0,0 +1,150 @@
+package com.fooddelivery.hotelservice.service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fooddelivery.hotelservice.cache.HotelCacheBroadcaster;
+import com.fooddelivery.hotelservice.cache.HotelInvalidation;
+import com.fooddelivery.hotelservice.cache.HotelNearCache;
+import com.fooddelivery.hotelservice.entity.Hotel;
+import com.fooddelivery.hotelservice.index.HotelIndex;
+import com.fooddelivery.hotelservice.repository.HotelRepository;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Adds new reviews to hotels.review_sum / review_count in one batched UPDATE
+ * per flush, so review traffic takes a hotel's row lock once per interval
+ * instead of once per review.
+ *
+ * hotel_reviews itself is the queue: a review is saved with aggregated = false
+ * and each flush claims up to batch-size of those rows (FOR UPDATE SKIP
+ * LOCKED, so instances never claim the same review), adds them to their
+ * hotels and marks them aggregated, all in one transaction. A crash or a
+ * failed flush therefore loses nothing and counts nothing twice; the rows
+ * are simply claimed again.
+ *
+ * The stored rating is Bayesian-smoothed towards a prior:
+ * (priorWeight * priorMean + sum) / (priorWeight + count), so a hotel with a
+ * handful of reviews cannot jump to 5.0 or 1.0. Once a hotel has reviews
+ * this is the only writer of its rating; see HotelServiceImpl.updateHotel.
+ */
+@Component
+public class ReviewAggregator {
+
+    private static final Logger log = LoggerFactory.getLogger(ReviewAggregator.class);
+
+    private static final String CLAIM_SQL = "SELECT id, hotel_id, rating FROM hotel_reviews "
+            + "WHERE aggregated = 0 ORDER BY id LIMIT ? FOR UPDATE SKIP LOCKED";
+
+    // MySQL applies single-table SET assignments left to right, so rating sees the new totals
+    private static final String FLUSH_SQL = "UPDATE hotels SET "
+            + "review_sum = COALESCE(review_sum, 0) + ?, "
+            + "review_count = COALESCE(review_count, 0) + ?, "
+            + "rating = ROUND((? + review_sum) / (? + review_count), 2), "
+            + "version = version + 1 "
+            + "WHERE id = ?";
+
+    private static final String MARK_SQL = "UPDATE hotel_reviews SET aggregated = 1 WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final HotelRepository hotelRepository;
+    private final List<HotelIndex> indexes;
+    private final HotelNearCache nearCache;
+    private final HotelCacheBroadcaster cacheBroadcaster;
+    private final double priorWeight;
+    private final double priorMean;
+    private final int batchSize;
+
+    public ReviewAggregator(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate,
+                            HotelRepository hotelRepository, List<HotelIndex> indexes,
+                            HotelNearCache nearCache, HotelCacheBroadcaster cacheBroadcaster,
+                            @Value("${hotel.reviews.prior-weight:10}") double priorWeight,
+                            @Value("${hotel.reviews.prior-mean:3.5}") double priorMean,
+                            @Value("${hotel.reviews.batch-size:1000}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.hotelRepository = hotelRepository;
+        this.indexes = indexes;
+        this.nearCache = nearCache;
+        this.cacheBroadcaster = cacheBroadcaster;
+        this.priorWeight = priorWeight;
+        this.priorMean = priorMean;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(fixedDelayString = "${hotel.reviews.flush-ms:5000}")
+    public void flush() {
+        int claimed;
+        do {
+            Map<Long, Totals> totals = new LinkedHashMap<>();
+            try {
+                claimed = transactionTemplate.execute(status -> flushBatch(totals));
+            } catch (DataAccessException e) {
+                // Rolled back as a whole: the reviews stay unaggregated and are claimed again next time
+                log.warn("Review aggregates not flushed: {}", e.getMessage());
+                return;
+            }
+            if (!totals.isEmpty()) {
+                refresh(totals);
+            }
+        } while (claimed == batchSize);
+    }
+
+    // Rates what is already saved before the instance goes away, so ratings do not wait for a peer
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    private int flushBatch(Map<Long, Totals> totals) {
+        List<Long> reviewIds = new ArrayList<>();
+        jdbcTemplate.query(CLAIM_SQL, rs -> {
+            reviewIds.add(rs.getLong("id"));
+            totals.computeIfAbsent(rs.getLong("hotel_id"), id -> new Totals()).add(rs.getInt("rating"));
+        }, batchSize);
+        if (reviewIds.isEmpty()) {
+            return 0;
+        }
+
+        List<Object[]> hotelUpdates = new ArrayList<>(totals.size());
+        totals.forEach((hotelId, t) -> hotelUpdates.add(new Object[] {
+                t.sum, t.count, priorWeight * priorMean, priorWeight, hotelId }));
+        jdbcTemplate.batchUpdate(FLUSH_SQL, hotelUpdates);
+        jdbcTemplate.batchUpdate(MARK_SQL, reviewIds.stream().map(id -> new Object[] { id }).toList());
+        return reviewIds.size();
+    }
+
+    // New ratings for the in-memory listings and caches, here and on the peers
+    private void refresh(Map<Long, Totals> totals) {
+        List<Hotel> updated = hotelRepository.findAllById(totals.keySet());
+        indexes.forEach(index -> updated.forEach(index::upsert));
+        for (Hotel hotel : updated) {
+            nearCache.put(hotel);
+            cacheBroadcaster.publish(new HotelInvalidation(hotel.getId(), hotel.getVersion(), false));
+        }
+        log.debug("Flushed review aggregates for {} hotels", totals.size());
+    }
+
+    private static final class Totals {
+        private long sum;
+        private long count;
+
+        void add(int rating) {
+            sum += rating;
+            count++;
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.fooddelivery.hotelservice.service;
+
+import com.fooddelivery.hotelservice.DTO.ReviewRequest;
+import com.fooddelivery.hotelservice.entity.HotelReview;
+
+public interface ReviewService {
+
+    /**
+     * Stores a customer's review of a delivered order. The hotel's rating
+     * picks it up at the next aggregate flush.
+     */
+    HotelReview submitReview(Long hotelId, ReviewRequest request);
+}
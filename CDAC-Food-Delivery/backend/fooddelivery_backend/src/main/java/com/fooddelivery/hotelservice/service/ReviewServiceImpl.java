@@ -0,0 +1,94 @@
+package com.fooddelivery.hotelservice.service;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+
+import com.fooddelivery.hotelservice.DTO.ReviewRequest;
+import com.fooddelivery.hotelservice.entity.HotelReview;
+import com.fooddelivery.hotelservice.repository.HotelRepository;
+import com.fooddelivery.hotelservice.repository.HotelReviewRepository;
+import com.fooddelivery.orderservice.entity.Order;
+import com.fooddelivery.orderservice.entity.OrderItem;
+import com.fooddelivery.orderservice.enums.OrderStatus;
+import com.fooddelivery.orderservice.pricing.MenuPrice;
+import com.fooddelivery.orderservice.pricing.OrderPricer;
+import com.fooddelivery.orderservice.repository.OrderRepository;
+
+@Service
+public class ReviewServiceImpl implements ReviewService {
+
+    static final int MAX_COMMENT_LENGTH = 1000;
+
+    private final HotelReviewRepository reviewRepository;
+    private final HotelRepository hotelRepository;
+    private final OrderRepository orderRepository;
+    private final OrderPricer orderPricer;
+
+    public ReviewServiceImpl(HotelReviewRepository reviewRepository, HotelRepository hotelRepository,
+                             OrderRepository orderRepository, OrderPricer orderPricer) {
+        this.reviewRepository = reviewRepository;
+        this.hotelRepository = hotelRepository;
+        this.orderRepository = orderRepository;
+        this.orderPricer = orderPricer;
+    }
+
+    @Override
+    public HotelReview submitReview(Long hotelId, ReviewRequest request) {
+        if (request.getRating() == null || request.getRating() < 1 || request.getRating() > 5) {
+            throw new IllegalArgumentException("Rating must be between 1 and 5");
+        }
+        if (request.getOrderId() == null) {
+            throw new IllegalArgumentException("Order ID is required");
+        }
+        if (request.getUserEmail() == null || request.getUserEmail().trim().isEmpty()) {
+            throw new IllegalArgumentException("User email is required");
+        }
+        if (request.getComment() != null && request.getComment().length() > MAX_COMMENT_LENGTH) {
+            throw new IllegalArgumentException("Comment must be at most " + MAX_COMMENT_LENGTH + " characters");
+        }
+        if (!hotelRepository.existsById(hotelId)) {
+            throw new RuntimeException("Hotel not found with id: " + hotelId);
+        }
+
+        Order order = orderRepository.findById(request.getOrderId())
+                .orElseThrow(() -> new IllegalArgumentException("Order not found with id: " + request.getOrderId()));
+        if (!request.getUserEmail().trim().equalsIgnoreCase(order.getUserEmail())) {
+            throw new IllegalArgumentException("Order does not belong to this user");
+        }
+        if (order.getStatus() != OrderStatus.DELIVERED) {
+            throw new IllegalArgumentException("Only delivered orders can be reviewed");
+        }
+        requireOrderedFrom(order, hotelId);
+        if (reviewRepository.existsByOrderId(order.getId())) {
+            throw new DuplicateReviewException("Order " + order.getId() + " has already been reviewed");
+        }
+
+        HotelReview review = new HotelReview(null, hotelId, order.getId(), order.getUserEmail(),
+                request.getRating(), request.getComment() == null ? null : request.getComment().trim(),
+                LocalDateTime.now(), false); // ReviewAggregator adds it to the hotel's rating
+        try {
+            review = reviewRepository.save(review);
+        } catch (DataIntegrityViolationException e) {
+            // Lost a race with a concurrent submission for the same order
+            throw new DuplicateReviewException("Order " + order.getId() + " has already been reviewed");
+        }
+        return review;
+    }
+
+    // Orders do not store their hotel; the menu items do
+    private void requireOrderedFrom(Order order, Long hotelId) {
+        Map<Long, MenuPrice> menuItems = orderPricer.resolve(order.getItems().stream()
+                .map(OrderItem::getMenuItemId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet()));
+        boolean fromHotel = menuItems.values().stream().anyMatch(item -> hotelId.equals(item.hotelId()));
+        if (!fromHotel) {
+            throw new IllegalArgumentException("Order was not placed with this hotel");
+        }
+    }
+}
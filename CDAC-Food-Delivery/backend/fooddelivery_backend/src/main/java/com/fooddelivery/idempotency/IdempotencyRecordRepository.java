@@ -0,0 +1,30 @@
+package com.fooddelivery.idempotency;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+@Repository
+public interface IdempotencyRecordRepository extends JpaRepository<IdempotencyRecord, Long> {
+
+    Optional<IdempotencyRecord> findByScopeAndIdempotencyKey(String scope, String idempotencyKey);
+
+    // Takes over an IN_PROGRESS key whose holder's lease ran out (crashed or hung instance)
+    @Modifying
+    @Query("UPDATE IdempotencyRecord r SET r.claimedAt = :claimedAt, r.requestHash = :requestHash " +
+            "WHERE r.scope = :scope AND r.idempotencyKey = :key AND r.status = 'IN_PROGRESS' " +
+            "AND (r.claimedAt IS NULL OR r.claimedAt < :expiredBefore)")
+    int takeOverExpired(@Param("scope") String scope, @Param("key") String key,
+                        @Param("requestHash") String requestHash,
+                        @Param("claimedAt") LocalDateTime claimedAt,
+                        @Param("expiredBefore") LocalDateTime expiredBefore);
+
+    @Modifying
+    @Query("DELETE FROM IdempotencyRecord r WHERE r.createdAt < :before")
+    int deleteCreatedBefore(@Param("before") LocalDateTime before);
+}
@@ -0,0 +1,287 @@
+package com.fooddelivery.idempotency;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.concurrent.*;
+import java.util.function.Supplier;
+
+/**
+ * Runs a write at most once per (scope, Idempotency-Key) and replays the stored
+ * response for retries.
+ *
+ * A bounded in-memory window of futures makes concurrent duplicates on this
+ * instance wait for the in-flight request. The idempotency_keys table (unique
+ * on scope + key) is the cross-instance claim and keeps completed responses
+ * for order.idempotency.retention. Only 2xx responses are stored; failures
+ * release the key so the client can retry. A write whose outcome is not known
+ * yet (OutcomePendingException) keeps the key until it is, so a retry waits
+ * for that outcome rather than writing again.
+ *
+ * An IN_PROGRESS row is a lease (claimed_at + idempotency.lease): if its holder
+ * dies without completing or releasing, a retry after the lease takes the key
+ * over. A holder that outlived its lease no longer writes to the row.
+ */
+@Service
+public class IdempotencyService {
+
+    public static final String HEADER = "Idempotency-Key";
+    private static final Logger log = LoggerFactory.getLogger(IdempotencyService.class);
+    private static final long DB_POLL_MILLIS = 100;
+
+    private final IdempotencyRecordRepository repository;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate newTransaction;
+    private final Cache<String, CompletableFuture<StoredResponse>> window;
+    private final Duration waitTimeout;
+    private final Duration retention;
+    private final Duration lease;
+
+    public IdempotencyService(IdempotencyRecordRepository repository,
+                              ObjectMapper objectMapper,
+                              PlatformTransactionManager transactionManager,
+                              @Value("${idempotency.window.max-size:10000}") long windowSize,
+                              @Value("${idempotency.window.ttl:PT10M}") Duration windowTtl,
+                              @Value("${idempotency.wait-timeout:PT10S}") Duration waitTimeout,
+                              @Value("${idempotency.retention:P1D}") Duration retention,
+                              @Value("${idempotency.lease:PT30S}") Duration lease) {
+        this.repository = repository;
+        this.objectMapper = objectMapper;
+        this.newTransaction = new TransactionTemplate(transactionManager);
+        this.newTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.window = Caffeine.newBuilder()
+                .maximumSize(windowSize)
+                .expireAfterWrite(windowTtl)
+                .build();
+        this.waitTimeout = waitTimeout;
+        this.retention = retention;
+        this.lease = lease;
+    }
+
+    public ResponseEntity<?> execute(String scope, String key, Object request, Supplier<ResponseEntity<?>> action) {
+        if (key == null || key.isBlank()) {
+            return action.get();
+        }
+        if (key.length() > 100) {
+            return ResponseEntity.badRequest().body(HEADER + " must be at most 100 characters");
+        }
+        String requestHash = fingerprint(request);
+        String windowKey = scope + ":" + key;
+
+        CompletableFuture<StoredResponse> mine = new CompletableFuture<>();
+        CompletableFuture<StoredResponse> inFlight = window.asMap().putIfAbsent(windowKey, mine);
+        if (inFlight != null) {
+            return awaitInFlight(inFlight, requestHash);
+        }
+
+        // Millisecond precision so the value compares equal after a round trip through the database
+        LocalDateTime claimedAt = LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS);
+        try {
+            Optional<StoredResponse> previous = claim(scope, key, requestHash, claimedAt);
+            if (previous.isPresent()) {
+                mine.complete(previous.get());
+                return replay(previous.get(), requestHash);
+            }
+        } catch (RuntimeException e) {
+            window.invalidate(windowKey);
+            mine.completeExceptionally(e);
+            throw e;
+        }
+
+        ResponseEntity<?> response;
+        try {
+            response = action.get();
+        } catch (OutcomePendingException e) {
+            // Releasing now would let a retry write a second time; keep the key and record the real outcome
+            e.getOutcome().whenCompleteAsync((outcome, failure) -> {
+                try {
+                    finish(scope, key, requestHash, claimedAt, windowKey, mine, outcome, failure);
+                } catch (RuntimeException storeFailure) {
+                    log.warn("Outcome of {} {} not recorded: {}", HEADER, windowKey, storeFailure.getMessage());
+                }
+            });
+            throw e;
+        } catch (RuntimeException e) {
+            release(scope, key, claimedAt, windowKey, mine, e);
+            throw e;
+        }
+        finish(scope, key, requestHash, claimedAt, windowKey, mine, response, null);
+        return response;
+    }
+
+    private void finish(String scope, String key, String requestHash, LocalDateTime claimedAt, String windowKey,
+                        CompletableFuture<StoredResponse> mine, ResponseEntity<?> response, Throwable failure) {
+        if (failure != null || !response.getStatusCode().is2xxSuccessful()) {
+            release(scope, key, claimedAt, windowKey, mine, failure == null ? null
+                    : failure instanceof RuntimeException e ? e : new IllegalStateException(failure));
+            return;
+        }
+        StoredResponse stored = new StoredResponse(requestHash, response.getStatusCode().value(),
+                toJson(response.getBody()));
+        newTransaction.executeWithoutResult(status ->
+                repository.findByScopeAndIdempotencyKey(scope, key)
+                        .filter(record -> isHeldBy(record, claimedAt))
+                        .ifPresentOrElse(record -> {
+                            record.setStatus(IdempotencyRecord.COMPLETED);
+                            record.setResponseStatus(stored.status());
+                            record.setResponseBody(stored.body());
+                        }, () -> log.warn("Lease on {} {} expired before the request completed; response not stored",
+                                HEADER, windowKey)));
+        mine.complete(stored);
+    }
+
+    @Scheduled(fixedDelayString = "${idempotency.purge-interval-ms:3600000}")
+    public void purgeExpired() {
+        Integer purged = newTransaction.execute(
+                status -> repository.deleteCreatedBefore(LocalDateTime.now().minus(retention)));
+        if (purged != null && purged > 0) {
+            log.info("Purged {} expired idempotency keys", purged);
+        }
+    }
+
+    /**
+     * Inserts an IN_PROGRESS row for the key. If another request already holds
+     * it, waits (bounded) for that request to complete and returns its response,
+     * or takes the key over once the holder's lease has expired.
+     */
+    private Optional<StoredResponse> claim(String scope, String key, String requestHash, LocalDateTime claimedAt) {
+        try {
+            newTransaction.executeWithoutResult(status -> {
+                IdempotencyRecord record = new IdempotencyRecord();
+                record.setScope(scope);
+                record.setIdempotencyKey(key);
+                record.setRequestHash(requestHash);
+                record.setStatus(IdempotencyRecord.IN_PROGRESS);
+                record.setCreatedAt(LocalDateTime.now());
+                record.setClaimedAt(claimedAt);
+                repository.saveAndFlush(record);
+            });
+            return Optional.empty();
+        } catch (DataIntegrityViolationException duplicate) {
+            long deadline = System.nanoTime() + waitTimeout.toNanos();
+            while (true) {
+                Optional<IdempotencyRecord> record = repository.findByScopeAndIdempotencyKey(scope, key);
+                if (record.isEmpty()) {
+                    // The holder failed and released the key; take it over
+                    return claim(scope, key, requestHash, claimedAt);
+                }
+                if (IdempotencyRecord.COMPLETED.equals(record.get().getStatus())) {
+                    IdempotencyRecord done = record.get();
+                    return Optional.of(new StoredResponse(done.getRequestHash(), done.getResponseStatus(),
+                            done.getResponseBody()));
+                }
+                if (isExpired(record.get()) && takeOver(scope, key, requestHash, claimedAt)) {
+                    log.warn("Took over {} {}:{} after its holder's lease expired", HEADER, scope, key);
+                    return Optional.empty();
+                }
+                if (System.nanoTime() > deadline) {
+                    throw new IdempotencyConflictException("A request with this " + HEADER + " is still in progress");
+                }
+                sleep();
+            }
+        }
+    }
+
+    private boolean isExpired(IdempotencyRecord record) {
+        return record.getClaimedAt() == null || record.getClaimedAt().isBefore(LocalDateTime.now().minus(lease));
+    }
+
+    private boolean takeOver(String scope, String key, String requestHash, LocalDateTime claimedAt) {
+        Integer updated = newTransaction.execute(status -> repository.takeOverExpired(
+                scope, key, requestHash, claimedAt, LocalDateTime.now().minus(lease)));
+        return updated != null && updated == 1;
+    }
+
+    private static boolean isHeldBy(IdempotencyRecord record, LocalDateTime claimedAt) {
+        return IdempotencyRecord.IN_PROGRESS.equals(record.getStatus()) && claimedAt.equals(record.getClaimedAt());
+    }
+
+    private ResponseEntity<?> awaitInFlight(CompletableFuture<StoredResponse> inFlight, String requestHash) {
+        try {
+            return replay(inFlight.get(waitTimeout.toMillis(), TimeUnit.MILLISECONDS), requestHash);
+        } catch (TimeoutException e) {
+            throw new IdempotencyConflictException("A request with this " + HEADER + " is still in progress");
+        } catch (ExecutionException e) {
+            throw new IdempotencyConflictException("The original request with this " + HEADER
+                    + " failed; retry it");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IdempotencyConflictException("Interrupted while waiting for the original request");
+        }
+    }
+
+    private ResponseEntity<?> replay(StoredResponse stored, String requestHash) {
+        if (!stored.requestHash().equals(requestHash)) {
+            return ResponseEntity.status(HttpStatus.UNPROCESSABLE_ENTITY)
+                    .body(HEADER + " was already used with a different request body");
+        }
+        try {
+            return ResponseEntity.status(stored.status())
+                    .header("Idempotent-Replayed", "true")
+                    .body(stored.body() == null ? null : objectMapper.readTree(stored.body()));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Stored idempotent response is not valid JSON", e);
+        }
+    }
+
+    private void release(String scope, String key, LocalDateTime claimedAt, String windowKey,
+                         CompletableFuture<StoredResponse> mine, RuntimeException cause) {
+        newTransaction.executeWithoutResult(status ->
+                repository.findByScopeAndIdempotencyKey(scope, key)
+                        .filter(record -> isHeldBy(record, claimedAt))
+                        .ifPresent(repository::delete));
+        window.invalidate(windowKey);
+        mine.completeExceptionally(cause != null ? cause : new IllegalStateException("Request was not successful"));
+    }
+
+    private String fingerprint(Object request) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                    .digest(objectMapper.writeValueAsBytes(request));
+            return HexFormat.of().formatHex(digest);
+        } catch (JsonProcessingException | NoSuchAlgorithmException e) {
+            throw new IllegalStateException("Could not fingerprint request", e);
+        }
+    }
+
+    private String toJson(Object body) {
+        try {
+            return body == null ? null : objectMapper.writeValueAsString(body);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not store idempotent response", e);
+        }
+    }
+
+    private void sleep() {
+        try {
+            Thread.sleep(DB_POLL_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IdempotencyConflictException("Interrupted while waiting for the original request");
+        }
+    }
+
+    private record StoredResponse(String requestHash, int status, String body) {
+    }
+}
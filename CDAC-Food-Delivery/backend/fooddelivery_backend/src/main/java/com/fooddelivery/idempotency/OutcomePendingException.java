@@ -0,0 +1,25 @@
+package com.fooddelivery.idempotency;
+
+import org.springframework.http.ResponseEntity;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * The write was handed off and may still commit after the caller gave up
+ * waiting. IdempotencyService keeps the key claimed and records the response
+ * once outcome completes, so a retry with the same key gets that response
+ * instead of running the write again.
+ */
+public class OutcomePendingException extends RuntimeException {
+
+    private final transient CompletableFuture<ResponseEntity<?>> outcome;
+
+    public OutcomePendingException(String message, CompletableFuture<ResponseEntity<?>> outcome) {
+        super(message);
+        this.outcome = outcome;
+    }
+
+    public CompletableFuture<ResponseEntity<?>> getOutcome() {
+        return outcome;
+    }
+}
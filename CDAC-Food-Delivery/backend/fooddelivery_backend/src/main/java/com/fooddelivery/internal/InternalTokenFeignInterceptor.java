@@ -0,0 +1,22 @@
+package com.fooddelivery.internal;
+
+import feign.RequestInterceptor;
+import feign.RequestTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+// Sends the shared internal.token on every Feign call to the other services
+@Component
+public class InternalTokenFeignInterceptor implements RequestInterceptor {
+
+    private final String token;
+
+    public InternalTokenFeignInterceptor(@Value("${internal.token}") String token) {
+        this.token = token;
+    }
+
+    @Override
+    public void apply(RequestTemplate template) {
+        template.header(InternalTokenFilter.HEADER, token);
+    }
+}
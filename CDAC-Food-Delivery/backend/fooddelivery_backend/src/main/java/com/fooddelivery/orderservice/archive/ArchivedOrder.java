@@ -0,0 +1,71 @@
+package com.fooddelivery.orderservice.archive;
+
+import com.fooddelivery.orderservice.entity.Order;
+import com.fooddelivery.orderservice.enums.OrderStatus;
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.Immutable;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Cold copy of a customer_orders row, moved by {@link OrderArchiver}. Ids are
+ * kept from the hot table. Read-only from the application's point of view.
+ */
+@Entity
+@Immutable
+@Data
+@NoArgsConstructor
+@Table(name = "customer_orders_archive", indexes = {
+        @Index(name = "idx_orders_archive_user_date", columnList = "user_email, order_date, id")
+})
+public class ArchivedOrder {
+
+    @Id
+    private Long id;
+
+    @Column(name = "user_email")
+    private String userEmail;
+
+    private Double totalAmount;
+
+    @Enumerated(EnumType.STRING)
+    @Column(length = 20)
+    private OrderStatus status;
+
+    private String paymentMethod;
+
+    @Column(name = "delivery_address")
+    private String deliveryAddress;
+
+    @Column(name = "order_date")
+    private LocalDateTime orderDate;
+
+    private Long version;
+
+    @Column(name = "archived_at")
+    private LocalDateTime archivedAt;
+
+    @OneToMany
+    @JoinColumn(name = "order_id")
+    @BatchSize(size = 50)
+    private List<ArchivedOrderItem> items;
+
+    // Detached Order view so history responses look the same for both stores
+    public Order toOrder() {
+        Order order = new Order();
+        order.setId(id);
+        order.setUserEmail(userEmail);
+        order.setTotalAmount(totalAmount);
+        order.setStatus(status);
+        order.setPaymentMethod(paymentMethod);
+        order.setDeliveryAddress(deliveryAddress);
+        order.setOrderDate(orderDate);
+        order.setVersion(version);
+        order.setItems(items.stream().map(ArchivedOrderItem::toOrderItem).toList());
+        return order;
+    }
+}
@@ -0,0 +1,34 @@
+package com.fooddelivery.orderservice.archive;
+
+import com.fooddelivery.orderservice.entity.OrderItem;
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+@Entity
+@Immutable
+@Data
+@NoArgsConstructor
+@Table(name = "order_items_archive", indexes = {
+        @Index(name = "idx_order_items_archive_order", columnList = "order_id")
+})
+public class ArchivedOrderItem {
+
+    @Id
+    private Long id;
+
+    @Column(name = "order_id", insertable = false, updatable = false)
+    private Long orderId;
+
+    private String name;
+    private Double price;
+    private Integer quantity;
+
+    @Column(name = "menu_item_id")
+    private Long menuItemId;
+
+    public OrderItem toOrderItem() {
+        return new OrderItem(id, name, price, quantity, menuItemId);
+    }
+}
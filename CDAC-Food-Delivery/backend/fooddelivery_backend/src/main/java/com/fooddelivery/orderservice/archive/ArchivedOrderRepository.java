@@ -0,0 +1,24 @@
+package com.fooddelivery.orderservice.archive;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface ArchivedOrderRepository extends JpaRepository<ArchivedOrder, Long> {
+
+    List<ArchivedOrder> findByUserEmailOrderByOrderDateDescIdDesc(String userEmail, Limit limit);
+
+    @Query("SELECT o FROM ArchivedOrder o WHERE o.userEmail = :email " +
+            "AND (o.orderDate < :orderDate OR (o.orderDate = :orderDate AND o.id < :id)) " +
+            "ORDER BY o.orderDate DESC, o.id DESC")
+    List<ArchivedOrder> findPageAfter(@Param("email") String email,
+                                      @Param("orderDate") LocalDateTime orderDate,
+                                      @Param("id") Long id,
+                                      Limit limit);
+}
@@ -0,0 +1,29 @@
+package com.fooddelivery.orderservice.archive;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * One row per scheduled job that must run on a single instance at a time.
+ * Only mapped so the table is created; {@link JobLockService} works on it with
+ * plain SQL.
+ */
+@Entity
+@Data
+@NoArgsConstructor
+@Table(name = "job_locks")
+public class JobLock {
+
+    @Id
+    @Column(length = 100)
+    private String name;
+
+    @Column(name = "locked_until", nullable = false)
+    private LocalDateTime lockedUntil;
+
+    @Column(name = "locked_by", nullable = false, length = 100)
+    private String lockedBy;
+}
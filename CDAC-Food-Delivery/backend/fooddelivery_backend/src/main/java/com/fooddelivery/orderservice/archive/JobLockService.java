@@ -0,0 +1,39 @@
+package com.fooddelivery.orderservice.archive;
+
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.UUID;
+
+/**
+ * Lease-based lock in job_locks so a cron job that fires on every instance
+ * runs on only one of them. Times come from the database clock, so instances
+ * with skewed clocks still agree. A crashed holder's lease simply runs out.
+ */
+@Component
+public class JobLockService {
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final String owner = UUID.randomUUID().toString();
+
+    public JobLockService(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public boolean tryAcquire(String name, Duration lease) {
+        MapSqlParameterSource params = new MapSqlParameterSource("name", name)
+                .addValue("owner", owner)
+                .addValue("seconds", lease.toSeconds());
+        jdbcTemplate.update("INSERT IGNORE INTO job_locks (name, locked_until, locked_by) " +
+                "VALUES (:name, '1970-01-01 00:00:01', '')", params);
+        return jdbcTemplate.update("UPDATE job_locks SET locked_until = NOW() + INTERVAL :seconds SECOND, " +
+                "locked_by = :owner WHERE name = :name AND locked_until < NOW()", params) == 1;
+    }
+
+    public void release(String name) {
+        jdbcTemplate.update("UPDATE job_locks SET locked_until = NOW() WHERE name = :name AND locked_by = :owner",
+                new MapSqlParameterSource("name", name).addValue("owner", owner));
+    }
+}
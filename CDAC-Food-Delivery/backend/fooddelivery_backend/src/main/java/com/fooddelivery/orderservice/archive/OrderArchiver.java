@@ -0,0 +1,126 @@
+package com.fooddelivery.orderservice.archive;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Moves finished (DELIVERED or CANCELLED) orders older than
+ * order.archive.max-age, and their items, from the hot tables into
+ * customer_orders_archive / order_items_archive. Orders still in flight stay
+ * hot whatever their age.
+ *
+ * Works in chunks of order.archive.chunk-size ids, each in its own short
+ * transaction, with a pause between chunks so the copy never holds locks on
+ * the hot tables for long. The cron fires on every instance; the job_locks
+ * lease lets only one of them run, and a run stops once its lease
+ * (order.archive.lock-lease) is used up, leaving the rest for the next night.
+ */
+@Component
+public class OrderArchiver {
+
+    private static final Logger log = LoggerFactory.getLogger(OrderArchiver.class);
+    private static final String LOCK_NAME = "order-archiver";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final JobLockService jobLockService;
+    private final boolean enabled;
+    private final Duration maxAge;
+    private final int chunkSize;
+    private final long pauseMillis;
+    private final Duration lockLease;
+
+    public OrderArchiver(NamedParameterJdbcTemplate jdbcTemplate,
+                         TransactionTemplate transactionTemplate,
+                         JobLockService jobLockService,
+                         @Value("${order.archive.enabled:true}") boolean enabled,
+                         @Value("${order.archive.max-age:P90D}") Duration maxAge,
+                         @Value("${order.archive.chunk-size:500}") int chunkSize,
+                         @Value("${order.archive.pause-ms:50}") long pauseMillis,
+                         @Value("${order.archive.lock-lease:PT1H}") Duration lockLease) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.enabled = enabled;
+        this.maxAge = maxAge;
+        this.chunkSize = chunkSize;
+        this.pauseMillis = pauseMillis;
+        this.lockLease = lockLease;
+        this.jobLockService = jobLockService;
+    }
+
+    @Scheduled(cron = "${order.archive.cron:0 30 3 * * *}")
+    public void archive() {
+        if (!enabled) {
+            return;
+        }
+        if (!jobLockService.tryAcquire(LOCK_NAME, lockLease)) {
+            log.debug("Order archiving is running on another instance");
+            return;
+        }
+        try {
+            archiveUntil(System.nanoTime() + lockLease.toNanos());
+        } finally {
+            jobLockService.release(LOCK_NAME);
+        }
+    }
+
+    private void archiveUntil(long deadline) {
+        LocalDateTime cutoff = LocalDateTime.now().minus(maxAge);
+        int total = 0;
+        while (System.nanoTime() < deadline) {
+            Integer moved = transactionTemplate.execute(status -> moveChunk(cutoff));
+            if (moved == null || moved == 0) {
+                break;
+            }
+            total += moved;
+            if (moved < chunkSize || !pause()) {
+                break;
+            }
+        }
+        if (total > 0) {
+            log.info("Archived {} finished orders placed before {}", total, cutoff);
+        }
+    }
+
+    private int moveChunk(LocalDateTime cutoff) {
+        // Locked so a concurrent status change cannot slip in between the copy and the delete
+        List<Long> ids = jdbcTemplate.queryForList(
+                "SELECT id FROM customer_orders WHERE order_date < :cutoff AND status IN ('DELIVERED', 'CANCELLED') " +
+                        "ORDER BY order_date, id LIMIT :limit FOR UPDATE",
+                new MapSqlParameterSource("cutoff", cutoff).addValue("limit", chunkSize),
+                Long.class);
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        MapSqlParameterSource params = new MapSqlParameterSource("ids", ids);
+        jdbcTemplate.update("INSERT INTO customer_orders_archive " +
+                "(id, user_email, total_amount, status, payment_method, delivery_address, order_date, version, archived_at) " +
+                "SELECT id, user_email, total_amount, status, payment_method, delivery_address, order_date, version, NOW() " +
+                "FROM customer_orders WHERE id IN (:ids)", params);
+        jdbcTemplate.update("INSERT INTO order_items_archive (id, order_id, name, price, quantity, menu_item_id) " +
+                "SELECT id, order_id, name, price, quantity, menu_item_id FROM order_items WHERE order_id IN (:ids)", params);
+        jdbcTemplate.update("DELETE FROM order_items WHERE order_id IN (:ids)", params);
+        jdbcTemplate.update("DELETE FROM customer_orders WHERE id IN (:ids)", params);
+        return ids.size();
+    }
+
+    private boolean pause() {
+        try {
+            Thread.sleep(pauseMillis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.fooddelivery.orderservice.config;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Moves the pooled id generators for orders past any ids that were handed out
+ * by the old AUTO_INCREMENT columns. Runs once the schema exists and before
+ * the web server accepts requests; safe to repeat on every start.
+ */
+@Component
+public class OrderIdSequenceInitializer {
+
+    private static final Logger log = LoggerFactory.getLogger(OrderIdSequenceInitializer.class);
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // EntityManagerFactory is injected so hibernate's schema update has run first
+    public OrderIdSequenceInitializer(JdbcTemplate jdbcTemplate, EntityManagerFactory entityManagerFactory) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @PostConstruct
+    public void alignSequences() {
+        align("customer_orders", 50);
+        align("order_items", 200);
+        align("order_outbox", 50);
+    }
+
+    private void align(String table, int allocationSize) {
+        // The pooled optimizer hands out (next_val - allocationSize, next_val], so keep
+        // next_val at least one full block above the current max id
+        jdbcTemplate.update(
+                "INSERT INTO id_sequences (sequence_name, next_val) " +
+                        "SELECT ?, COALESCE(MAX(id), 0) + ? FROM " + table + " " +
+                        "ON DUPLICATE KEY UPDATE next_val = GREATEST(next_val, VALUES(next_val))",
+                table, allocationSize + 1);
+        log.info("Id sequence for {} aligned", table);
+    }
+}
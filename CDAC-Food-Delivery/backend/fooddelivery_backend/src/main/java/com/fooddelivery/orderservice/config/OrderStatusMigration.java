@@ -0,0 +1,36 @@
+package com.fooddelivery.orderservice.config;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Rewrites the free-form statuses stored before OrderStatus existed
+ * ("SUCCESS", "PENDING", null) to PLACED so they load as enums and match the
+ * conditional status updates.
+ */
+@Component
+public class OrderStatusMigration {
+
+    private static final Logger log = LoggerFactory.getLogger(OrderStatusMigration.class);
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // EntityManagerFactory is injected so hibernate's schema update has run first
+    public OrderStatusMigration(JdbcTemplate jdbcTemplate, EntityManagerFactory entityManagerFactory) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @PostConstruct
+    public void migrateLegacyStatuses() {
+        int updated = jdbcTemplate.update("UPDATE customer_orders SET status = 'PLACED' " +
+                "WHERE status IS NULL OR status NOT IN " +
+                "('PLACED', 'PREPARING', 'OUT_FOR_DELIVERY', 'DELIVERED', 'CANCELLED')");
+        if (updated > 0) {
+            log.info("Migrated {} orders to status PLACED", updated);
+        }
+    }
+}
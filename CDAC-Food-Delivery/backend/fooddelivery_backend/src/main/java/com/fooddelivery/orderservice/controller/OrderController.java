@@ -1,34 +1,138 @@
 package com.fooddelivery.orderservice.controller;
 
+import com.fooddelivery.idempotency.IdempotencyConflictException;
+import com.fooddelivery.idempotency.IdempotencyService;
+import com.fooddelivery.idempotency.OutcomePendingException;
+import com.fooddelivery.orderservice.dto.OrderPageResponse;
+import com.fooddelivery.orderservice.dto.OrderStatusUpdateRequest;
 import com.fooddelivery.orderservice.entity.Order;
-import com.fooddelivery.orderservice.entity.OrderItem;
-import com.fooddelivery.orderservice.repository.OrderRepository;
+import com.fooddelivery.orderservice.pricing.OrderPricer;
+import com.fooddelivery.orderservice.pricing.PricingUnavailableException;
+import com.fooddelivery.orderservice.service.OrderNotFoundException;
+import com.fooddelivery.orderservice.service.OrderService;
+import com.fooddelivery.orderservice.service.OrderStatusConflictException;
+import com.fooddelivery.orderservice.service.OrderWriteTimeoutException;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
-import java.time.LocalDateTime;
-import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequestMapping("/api/orders")
 public class OrderController {
 
     @Autowired
-    private OrderRepository orderRepository;
+    private OrderService orderService;
+
+    @Autowired
+    private IdempotencyService idempotencyService;
+
+    @Autowired
+    private OrderPricer orderPricer;
 
     @PostMapping
-    public ResponseEntity<Order> createOrder(@RequestBody Order order) {
-        order.setOrderDate(LocalDateTime.now());
-        order.setStatus("SUCCESS"); // Simulating successful payment
-        Order savedOrder = orderRepository.save(order);
-        return ResponseEntity.ok(savedOrder);
+    public ResponseEntity<?> createOrder(
+            @RequestHeader(value = IdempotencyService.HEADER, required = false) String idempotencyKey,
+            @RequestBody Order order) {
+        try {
+            return idempotencyService.execute("orders", idempotencyKey, order,
+                    () -> placeOrder(order, idempotencyKey != null && !idempotencyKey.isBlank()));
+        } catch (IdempotencyConflictException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(e.getMessage());
+        } catch (OutcomePendingException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(e.getMessage());
+        }
+    }
+
+    private ResponseEntity<?> placeOrder(Order order, boolean idempotent) {
+        try {
+            Order savedOrder = orderService.createOrder(order);
+            return ResponseEntity.ok(savedOrder);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        } catch (PricingUnavailableException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(e.getMessage());
+        } catch (OrderWriteTimeoutException e) {
+            if (!idempotent) {
+                return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                        .body(e.getMessage() + "; check your orders before placing it again");
+            }
+            // The key stays claimed until the write settles, so a retry with it returns this order
+            throw new OutcomePendingException(e.getMessage() + "; retry with the same "
+                    + IdempotencyService.HEADER + " to get the result",
+                    e.getOutcome().<ResponseEntity<?>>thenApply(ResponseEntity::ok));
+        }
+    }
+
+    // Prices a cart without placing it; checkout shows and pays exactly this total
+    @PostMapping("/quote")
+    public ResponseEntity<?> quote(@RequestBody Order order) {
+        try {
+            return ResponseEntity.ok(orderPricer.quote(order.getItems()));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        } catch (PricingUnavailableException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(e.getMessage());
+        }
     }
 
     @GetMapping("/user/{email}")
-    public ResponseEntity<List<Order>> getOrdersByUser(@PathVariable String email) {
-        return ResponseEntity.ok(orderRepository.findAll().stream()
-                .filter(o -> o.getUserEmail().equals(email))
-                .toList());
+    public ResponseEntity<?> getOrdersByUser(@PathVariable String email,
+                                             @RequestParam(required = false) String pageToken,
+                                             @RequestParam(defaultValue = "20") int size) {
+        try {
+            OrderPageResponse page = orderService.getOrdersByUser(email, pageToken, size);
+            return ResponseEntity.ok(page);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
+    // PUT from the web dashboard, PATCH from the admin service
+    @RequestMapping(value = "/{id}/status", method = {RequestMethod.PUT, RequestMethod.PATCH})
+    public ResponseEntity<?> updateStatus(@PathVariable Long id, @RequestBody OrderStatusUpdateRequest request) {
+        try {
+            return ResponseEntity.ok(orderService.updateStatus(id, request.getStatus(), request.getExpectedStatus()));
+        } catch (OrderStatusConflictException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT)
+                    .body(Map.of("message", e.getMessage(), "currentStatus", e.getCurrentStatus()));
+        } catch (IllegalArgumentException e) {
+            // Missing status or a transition the lifecycle does not allow
+            return ResponseEntity.badRequest().body(e.getMessage());
+        } catch (OrderNotFoundException e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
+
+    @GetMapping(value = "/{id}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamOrder(@PathVariable Long id) {
+        try {
+            return orderService.streamOrder(id)
+                    .map(this::eventStream)
+                    .orElse(ResponseEntity.notFound().build());
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        }
+    }
+
+    @GetMapping(value = "/user/{email}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamUserOrders(@PathVariable String email) {
+        try {
+            return eventStream(orderService.streamUserOrders(email));
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        }
+    }
+
+    private ResponseEntity<SseEmitter> eventStream(SseEmitter emitter) {
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CACHE_CONTROL, "no-cache")
+                .header("X-Accel-Buffering", "no") // stop nginx from buffering the stream
+                .body(emitter);
     }
 }
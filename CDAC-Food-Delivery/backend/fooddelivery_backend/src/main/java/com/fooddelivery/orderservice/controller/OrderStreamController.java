@@ -0,0 +1,27 @@
+package com.fooddelivery.orderservice.controller;
+
+import com.fooddelivery.orderservice.events.OrderEvent;
+import com.fooddelivery.orderservice.stream.OrderStreamRegistry;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+// Receives order events relayed by the peer instance that dispatched them (see OrderStreamRelay).
+// Refused by the gateway and guarded by InternalTokenFilter.
+@RestController
+@RequestMapping("/internal/orders/stream")
+public class OrderStreamController {
+
+    private final OrderStreamRegistry registry;
+
+    public OrderStreamController(OrderStreamRegistry registry) {
+        this.registry = registry;
+    }
+
+    @PostMapping("/events")
+    public ResponseEntity<Void> events(@RequestBody List<OrderEvent> events) {
+        events.forEach(registry::publish);
+        return ResponseEntity.noContent().build();
+    }
+}
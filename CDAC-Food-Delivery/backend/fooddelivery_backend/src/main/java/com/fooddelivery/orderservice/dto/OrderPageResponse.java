@@ -0,0 +1,16 @@
+package com.fooddelivery.orderservice.dto;
+
+import com.fooddelivery.orderservice.entity.Order;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderPageResponse {
+    private List<Order> orders;
+    private String nextPageToken; // null when there are no older orders
+}
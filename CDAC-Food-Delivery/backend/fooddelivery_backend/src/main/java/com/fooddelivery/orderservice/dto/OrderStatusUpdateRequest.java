@@ -0,0 +1,10 @@
+package com.fooddelivery.orderservice.dto;
+
+import com.fooddelivery.orderservice.enums.OrderStatus;
+import lombok.Data;
+
+@Data
+public class OrderStatusUpdateRequest {
+    private OrderStatus status;
+    private OrderStatus expectedStatus; // Optional compare-and-set guard; defaults to the current status
+}
@@ -1,9 +1,12 @@
 package com.fooddelivery.orderservice.entity;
 
+import com.fooddelivery.orderservice.enums.OrderStatus;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.BatchSize;
+
 import java.util.List;
 import java.time.LocalDateTime;
 
@@ -11,18 +14,33 @@ import java.time.LocalDateTime;
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
-@Table(name = "customer_orders")
+@Table(name = "customer_orders", indexes = {
+        @Index(name = "idx_orders_user_date", columnList = "user_email, order_date, id"),
+        @Index(name = "idx_orders_date", columnList = "order_date") // archiver scan
+})
 public class Order {
 
+    // Pooled table ids (IDENTITY disables JDBC insert batching in Hibernate)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "order_id_gen")
+    @TableGenerator(name = "order_id_gen", table = "id_sequences",
+            pkColumnName = "sequence_name", valueColumnName = "next_val",
+            pkColumnValue = "customer_orders", allocationSize = 50)
     private Long id;
 
     @Column(name = "user_email")
     private String userEmail;
 
     private Double totalAmount;
-    private String status; // PENDING, SUCCESS, CANCELLED
+    @Enumerated(EnumType.STRING)
+    @Column(length = 20)
+    private OrderStatus status;
+
+    // Bumped by every status transition; checked by JPA on entity updates
+    @Version
+    @Column(nullable = false, columnDefinition = "bigint default 0")
+    private Long version;
+
     private String paymentMethod;
 
     @Column(name = "delivery_address")
@@ -32,6 +50,7 @@ public class Order {
     private LocalDateTime orderDate;
 
     @OneToMany(cascade = CascadeType.ALL)
-    @JoinColumn(name = "order_id")
+    @JoinColumn(name = "order_id", nullable = false) // written in the item INSERT, no follow-up UPDATE
+    @BatchSize(size = 50) // load items for a whole history page in one query
     private List<OrderItem> items;
 }
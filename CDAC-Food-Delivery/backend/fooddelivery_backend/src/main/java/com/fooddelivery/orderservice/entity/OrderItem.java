@@ -13,10 +13,16 @@ import lombok.NoArgsConstructor;
 public class OrderItem {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "order_item_id_gen")
+    @TableGenerator(name = "order_item_id_gen", table = "id_sequences",
+            pkColumnName = "sequence_name", valueColumnName = "next_val",
+            pkColumnValue = "order_items", allocationSize = 200)
     private Long id;
 
     private String name;
     private Double price;
     private Integer quantity;
+
+    @Column(name = "menu_item_id")
+    private Long menuItemId; // required; the item is priced server-side from it
 }
@@ -0,0 +1,53 @@
+package com.fooddelivery.orderservice.enums;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonValue;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Order lifecycle. JSON uses the display labels the admin dashboard already
+ * sends ("Out for Delivery"); enum names are accepted as well.
+ */
+public enum OrderStatus {
+    PLACED("Placed"),
+    PREPARING("Preparing"),
+    OUT_FOR_DELIVERY("Out for Delivery"),
+    DELIVERED("Delivered"),
+    CANCELLED("Cancelled");
+
+    private final String label;
+
+    OrderStatus(String label) {
+        this.label = label;
+    }
+
+    @JsonValue
+    public String getLabel() {
+        return label;
+    }
+
+    public Set<OrderStatus> next() {
+        return switch (this) {
+            case PLACED -> EnumSet.of(PREPARING, CANCELLED);
+            case PREPARING -> EnumSet.of(OUT_FOR_DELIVERY, CANCELLED);
+            case OUT_FOR_DELIVERY -> EnumSet.of(DELIVERED);
+            case DELIVERED, CANCELLED -> EnumSet.noneOf(OrderStatus.class);
+        };
+    }
+
+    public boolean canTransitionTo(OrderStatus target) {
+        return next().contains(target);
+    }
+
+    @JsonCreator
+    public static OrderStatus from(String value) {
+        for (OrderStatus status : values()) {
+            if (status.label.equalsIgnoreCase(value) || status.name().equalsIgnoreCase(value)) {
+                return status;
+            }
+        }
+        throw new IllegalArgumentException("Unknown order status: " + value);
+    }
+}
@@ -0,0 +1,41 @@
+package com.fooddelivery.orderservice.events;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Posts each batch as a JSON array to the URLs in order.events.http.endpoints
+ * (e.g. a rider dispatch webhook). Does nothing when none are configured.
+ */
+@Component
+public class HttpOrderEventSubscriber implements OrderEventSubscriber {
+
+    private final RestTemplate restTemplate;
+    private final List<String> endpoints;
+
+    public HttpOrderEventSubscriber(RestTemplateBuilder builder,
+                                    @Value("${order.events.http.endpoints:}") List<String> endpoints) {
+        this.restTemplate = builder
+                .setConnectTimeout(Duration.ofSeconds(2))
+                .setReadTimeout(Duration.ofSeconds(5))
+                .build();
+        this.endpoints = endpoints.stream().filter(e -> !e.isBlank()).toList();
+    }
+
+    @Override
+    public String name() {
+        return "http";
+    }
+
+    @Override
+    public void onEvents(List<OrderEvent> events) {
+        for (String endpoint : endpoints) {
+            restTemplate.postForEntity(endpoint, events, Void.class);
+        }
+    }
+}
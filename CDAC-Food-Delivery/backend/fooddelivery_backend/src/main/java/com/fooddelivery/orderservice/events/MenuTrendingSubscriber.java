@@ -0,0 +1,104 @@
+package com.fooddelivery.orderservice.events;
+
+import com.fooddelivery.internal.InternalTokenFilter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.discovery.DiscoveryClient;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Feeds menu-service's trending-dishes aggregator with the items of new orders.
+ *
+ * Trending counts live in memory on each menu-service instance, so every
+ * batch goes to every instance registered in Eureka rather than to one
+ * load-balanced pick. Sending is fire-and-forget on a separate thread: this
+ * subscriber never fails, so a menu-service outage cannot hold up the outbox.
+ * Batches that cannot be delivered are dropped; trending is an approximate,
+ * one-hour view. menu-service de-duplicates on eventId, so outbox retries
+ * are harmless.
+ */
+@Component
+public class MenuTrendingSubscriber implements OrderEventSubscriber {
+
+    private static final Logger log = LoggerFactory.getLogger(MenuTrendingSubscriber.class);
+
+    static final String MENU_SERVICE = "menu-service";
+    static final String ORDERS_PATH = "/internal/trending/orders";
+
+    private final DiscoveryClient discoveryClient;
+    private final RestTemplate restTemplate;
+    private final boolean enabled;
+    private final ExecutorService senders;
+
+    public MenuTrendingSubscriber(DiscoveryClient discoveryClient,
+                                  RestTemplateBuilder builder,
+                                  @Value("${internal.token}") String internalToken,
+                                  @Value("${order.events.trending.enabled:true}") boolean enabled,
+                                  @Value("${order.events.trending.queue-capacity:1000}") int queueCapacity) {
+        this.discoveryClient = discoveryClient;
+        this.restTemplate = builder
+                .setConnectTimeout(Duration.ofSeconds(1))
+                .setReadTimeout(Duration.ofSeconds(2))
+                .defaultHeader(InternalTokenFilter.HEADER, internalToken)
+                .build();
+        this.enabled = enabled;
+        this.senders = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(queueCapacity), r -> {
+                    Thread t = new Thread(r, "menu-trending-sender");
+                    t.setDaemon(true);
+                    return t;
+                });
+    }
+
+    @Override
+    public String name() {
+        return "menu-trending";
+    }
+
+    @Override
+    public void onEvents(List<OrderEvent> events) {
+        if (!enabled) {
+            return;
+        }
+        List<OrderEvent> created = events.stream()
+                .filter(event -> OrderEvent.ORDER_CREATED.equals(event.type()) && event.items() != null)
+                .toList();
+        if (created.isEmpty()) {
+            return;
+        }
+        try {
+            senders.execute(() -> send(created));
+        } catch (RejectedExecutionException e) {
+            log.warn("{} order events dropped for trending, send queue is full", created.size());
+        }
+    }
+
+    private void send(List<OrderEvent> events) {
+        for (ServiceInstance instance : discoveryClient.getInstances(MENU_SERVICE)) {
+            try {
+                restTemplate.postForEntity(instance.getUri().resolve(ORDERS_PATH), events, Void.class);
+            } catch (Exception e) {
+                log.warn("{} order events not delivered for trending to {}: {}",
+                        events.size(), instance.getUri(), e.getMessage());
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        senders.shutdownNow();
+    }
+}
@@ -0,0 +1,31 @@
+package com.fooddelivery.orderservice.events;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * What subscribers receive for every order change. Delivery is at-least-once,
+ * so consumers should de-duplicate on eventId.
+ */
+public record OrderEvent(
+        Long eventId,
+        String type,
+        Long orderId,
+        String userEmail,
+        // OrderStatus label, same as the REST API (e.g. "Out for Delivery")
+        String status,
+        Double totalAmount,
+        LocalDateTime occurredAt,
+        // Only on ORDER_CREATED; null otherwise
+        List<Item> items) {
+
+    public static final String ORDER_CREATED = "ORDER_CREATED";
+    public static final String ORDER_STATUS_CHANGED = "ORDER_STATUS_CHANGED";
+
+    public OrderEvent withEventId(Long id) {
+        return new OrderEvent(id, type, orderId, userEmail, status, totalAmount, occurredAt, items);
+    }
+
+    public record Item(Long menuItemId, String name, Integer quantity) {
+    }
+}
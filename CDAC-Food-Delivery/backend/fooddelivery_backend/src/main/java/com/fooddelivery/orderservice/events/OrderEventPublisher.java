@@ -0,0 +1,50 @@
+package com.fooddelivery.orderservice.events;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fooddelivery.orderservice.entity.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Appends order events to the outbox. Must join the transaction that writes
+ * the order so the event exists if and only if the order does.
+ */
+@Component
+public class OrderEventPublisher {
+
+    private final OrderOutboxRepository outboxRepository;
+    private final ObjectMapper objectMapper;
+
+    public OrderEventPublisher(OrderOutboxRepository outboxRepository, ObjectMapper objectMapper) {
+        this.outboxRepository = outboxRepository;
+        this.objectMapper = objectMapper;
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void publish(String type, Order order) {
+        List<OrderEvent.Item> items = null;
+        if (OrderEvent.ORDER_CREATED.equals(type) && order.getItems() != null) {
+            items = order.getItems().stream()
+                    .map(item -> new OrderEvent.Item(item.getMenuItemId(), item.getName(), item.getQuantity()))
+                    .toList();
+        }
+        OrderEvent event = new OrderEvent(null, type, order.getId(), order.getUserEmail(),
+                order.getStatus().getLabel(), order.getTotalAmount(), LocalDateTime.now(), items);
+
+        OrderOutboxEvent row = new OrderOutboxEvent();
+        row.setOrderId(order.getId());
+        row.setEventType(type);
+        row.setCreatedAt(event.occurredAt());
+        try {
+            row.setPayload(objectMapper.writeValueAsString(event));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize order event", e);
+        }
+        outboxRepository.save(row);
+    }
+}
@@ -0,0 +1,16 @@
+package com.fooddelivery.orderservice.events;
+
+import java.util.List;
+
+/**
+ * Receives drained outbox events in id order. Any Spring bean implementing this
+ * is picked up by the dispatcher; throwing makes the dispatcher retry this
+ * subscriber's events later (with backoff), other subscribers are unaffected.
+ * name() identifies the subscriber's progress in the outbox, so keep it stable.
+ */
+public interface OrderEventSubscriber {
+
+    String name();
+
+    void onEvents(List<OrderEvent> events) throws Exception;
+}
@@ -0,0 +1,237 @@
+package com.fooddelivery.orderservice.events;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Drains the order outbox in batches and hands events to every
+ * {@link OrderEventSubscriber} (at-least-once).
+ *
+ * A batch is claimed in a short transaction that stamps a lease
+ * (claimed_until) and commits, so subscribers - webhooks included - run
+ * without holding row locks. Progress is kept per subscriber: a subscriber
+ * that already took a row is not called for it again when another subscriber
+ * fails. If a batch fails, that subscriber's rows are retried one by one so
+ * a single bad row cannot hold back the rest. Failed rows back off
+ * exponentially and are dead-lettered (dead_at) after max-attempts; dead
+ * rows are kept for order.outbox.dead-retention, then purged.
+ *
+ * Tuning: order.outbox.batch-size bounds one claim; order.outbox.linger-ms is
+ * how long to wait once the outbox is drained before polling again;
+ * order.outbox.lease must outlast one delivery round.
+ * Metrics: order.outbox.lag (seconds the oldest pending event has waited),
+ * order.outbox.dispatched, order.outbox.failures, order.outbox.dead,
+ * order.outbox.batch.
+ */
+@Component
+public class OrderOutboxDispatcher {
+
+    private static final Logger log = LoggerFactory.getLogger(OrderOutboxDispatcher.class);
+    private static final int MAX_BATCHES_PER_RUN = 20;
+    // Consecutive single-row failures after which a subscriber is treated as down for this round
+    private static final int MAX_SINGLE_FAILURES = 3;
+
+    private final OrderOutboxRepository outboxRepository;
+    private final List<OrderEventSubscriber> subscribers;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final int batchSize;
+    private final Duration retention;
+    private final Duration deadRetention;
+    private final Duration lease;
+    private final int maxAttempts;
+    private final Duration backoff;
+    private final Duration maxBackoff;
+
+    private final AtomicLong lagSeconds = new AtomicLong();
+    private final Counter dispatched;
+    private final Counter failures;
+    private final Counter dead;
+    private final Timer batchTimer;
+
+    public OrderOutboxDispatcher(OrderOutboxRepository outboxRepository,
+                                 List<OrderEventSubscriber> subscribers,
+                                 TransactionTemplate transactionTemplate,
+                                 ObjectMapper objectMapper,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${order.outbox.batch-size:100}") int batchSize,
+                                 @Value("${order.outbox.retention:P1D}") Duration retention,
+                                 @Value("${order.outbox.dead-retention:P7D}") Duration deadRetention,
+                                 @Value("${order.outbox.lease:PT2M}") Duration lease,
+                                 @Value("${order.outbox.max-attempts:10}") int maxAttempts,
+                                 @Value("${order.outbox.backoff:PT1S}") Duration backoff,
+                                 @Value("${order.outbox.max-backoff:PT10M}") Duration maxBackoff) {
+        this.outboxRepository = outboxRepository;
+        this.subscribers = subscribers;
+        this.transactionTemplate = transactionTemplate;
+        this.objectMapper = objectMapper;
+        this.batchSize = batchSize;
+        this.retention = retention;
+        this.deadRetention = deadRetention;
+        this.lease = lease;
+        this.maxAttempts = maxAttempts;
+        this.backoff = backoff;
+        this.maxBackoff = maxBackoff;
+
+        Gauge.builder("order.outbox.lag", lagSeconds, AtomicLong::get)
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        this.dispatched = meterRegistry.counter("order.outbox.dispatched");
+        this.failures = meterRegistry.counter("order.outbox.failures");
+        this.dead = meterRegistry.counter("order.outbox.dead");
+        this.batchTimer = meterRegistry.timer("order.outbox.batch");
+    }
+
+    @Scheduled(fixedDelayString = "${order.outbox.linger-ms:200}")
+    public void drain() {
+        // Keep going while batches come back full, then linger
+        for (int i = 0; i < MAX_BATCHES_PER_RUN; i++) {
+            Integer claimed = batchTimer.record(this::dispatchBatch);
+            if (claimed == null || claimed < batchSize) {
+                break;
+            }
+        }
+        LocalDateTime oldest = outboxRepository.findOldestPendingCreatedAt();
+        lagSeconds.set(oldest == null ? 0 : Duration.between(oldest, LocalDateTime.now()).toSeconds());
+    }
+
+    @Scheduled(fixedDelayString = "${order.outbox.purge-interval-ms:3600000}")
+    public void purge() {
+        Integer purged = transactionTemplate.execute(
+                status -> outboxRepository.deletePublishedBefore(LocalDateTime.now().minus(retention)));
+        if (purged != null && purged > 0) {
+            log.info("Purged {} published outbox events", purged);
+        }
+        Integer purgedDead = transactionTemplate.execute(
+                status -> outboxRepository.deleteDeadBefore(LocalDateTime.now().minus(deadRetention)));
+        if (purgedDead != null && purgedDead > 0) {
+            log.warn("Purged {} dead-lettered outbox events older than {}", purgedDead, deadRetention);
+        }
+    }
+
+    private int dispatchBatch() {
+        List<OrderOutboxEvent> rows = transactionTemplate.execute(status -> claim());
+        if (rows == null || rows.isEmpty()) {
+            return 0;
+        }
+
+        // Row id -> first delivery error; rows that cannot even be parsed fail for every subscriber
+        Map<Long, String> errors = new HashMap<>();
+        Map<Long, OrderEvent> events = new LinkedHashMap<>();
+        for (OrderOutboxEvent row : rows) {
+            try {
+                events.put(row.getId(), objectMapper.readValue(row.getPayload(), OrderEvent.class).withEventId(row.getId()));
+            } catch (Exception e) {
+                errors.put(row.getId(), describe(e));
+            }
+        }
+
+        for (OrderEventSubscriber subscriber : subscribers) {
+            List<OrderOutboxEvent> pending = rows.stream()
+                    .filter(row -> events.containsKey(row.getId()) && !row.isDeliveredTo(subscriber.name()))
+                    .toList();
+            deliver(subscriber, pending, events, errors);
+        }
+
+        transactionTemplate.executeWithoutResult(status -> complete(rows, errors));
+        return rows.size();
+    }
+
+    private List<OrderOutboxEvent> claim() {
+        LocalDateTime now = LocalDateTime.now();
+        List<OrderOutboxEvent> rows = outboxRepository.claimPending(now, Limit.of(batchSize));
+        LocalDateTime claimedUntil = now.plus(lease);
+        rows.forEach(row -> row.setClaimedUntil(claimedUntil));
+        return rows;
+    }
+
+    private void deliver(OrderEventSubscriber subscriber, List<OrderOutboxEvent> pending,
+                         Map<Long, OrderEvent> events, Map<Long, String> errors) {
+        if (pending.isEmpty()) {
+            return;
+        }
+        try {
+            subscriber.onEvents(pending.stream().map(row -> events.get(row.getId())).toList());
+            pending.forEach(row -> row.markDeliveredTo(subscriber.name()));
+            return;
+        } catch (Exception e) {
+            failures.increment();
+            log.warn("Subscriber {} failed on a batch of {}: {}", subscriber.name(), pending.size(), e.getMessage());
+            if (pending.size() == 1) {
+                errors.putIfAbsent(pending.get(0).getId(), subscriber.name() + ": " + describe(e));
+                return;
+            }
+        }
+
+        // Isolate the bad rows, but stop early if the subscriber itself looks down
+        int consecutiveFailures = 0;
+        for (OrderOutboxEvent row : pending) {
+            if (consecutiveFailures >= MAX_SINGLE_FAILURES) {
+                errors.putIfAbsent(row.getId(), subscriber.name() + ": not attempted, subscriber unavailable");
+                continue;
+            }
+            try {
+                subscriber.onEvents(List.of(events.get(row.getId())));
+                row.markDeliveredTo(subscriber.name());
+                consecutiveFailures = 0;
+            } catch (Exception e) {
+                failures.increment();
+                consecutiveFailures++;
+                errors.putIfAbsent(row.getId(), subscriber.name() + ": " + describe(e));
+            }
+        }
+    }
+
+    private void complete(List<OrderOutboxEvent> rows, Map<Long, String> errors) {
+        LocalDateTime now = LocalDateTime.now();
+        int published = 0;
+        for (OrderOutboxEvent row : rows) {
+            row.setClaimedUntil(null);
+            String error = errors.get(row.getId());
+            if (error == null) {
+                row.setPublishedAt(now);
+                published++;
+                continue;
+            }
+            row.setAttempts(row.getAttempts() + 1);
+            row.setLastError(error.length() > 255 ? error.substring(0, 255) : error);
+            if (row.getAttempts() >= maxAttempts) {
+                row.setDeadAt(now);
+                dead.increment();
+                log.error("Outbox event {} ({} for order {}) dead-lettered after {} attempts: {}",
+                        row.getId(), row.getEventType(), row.getOrderId(), row.getAttempts(), error);
+            } else {
+                row.setNextAttemptAt(now.plus(backoffFor(row.getAttempts())));
+            }
+        }
+        outboxRepository.saveAll(rows);
+        dispatched.increment(published);
+    }
+
+    private Duration backoffFor(int attempts) {
+        Duration delay = backoff.multipliedBy(1L << Math.min(attempts - 1, 20));
+        return delay.compareTo(maxBackoff) > 0 ? maxBackoff : delay;
+    }
+
+    private static String describe(Exception e) {
+        return e.getMessage() == null ? e.getClass().getSimpleName() : e.getMessage();
+    }
+}
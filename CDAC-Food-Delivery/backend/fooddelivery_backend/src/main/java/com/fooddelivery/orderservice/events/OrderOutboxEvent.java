@@ -0,0 +1,77 @@
+package com.fooddelivery.orderservice.events;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Transactional outbox row. Written in the same transaction as the order
+ * change it describes and drained by {@link OrderOutboxDispatcher}.
+ *
+ * claimedUntil is the lease of the instance currently delivering the row,
+ * deliveredTo the comma-separated names of subscribers that already took it,
+ * and deadAt marks a row that ran out of attempts (dead letter, kept for
+ * inspection for order.outbox.dead-retention, then purged).
+ */
+@Entity
+@Data
+@NoArgsConstructor
+@Table(name = "order_outbox", indexes = {
+        // Claims read (NULL, NULL) in id order, so published and dead-lettered rows are never walked
+        @Index(name = "idx_outbox_claim", columnList = "published_at, dead_at, id")
+})
+public class OrderOutboxEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "order_outbox_id_gen")
+    @TableGenerator(name = "order_outbox_id_gen", table = "id_sequences",
+            pkColumnName = "sequence_name", valueColumnName = "next_val",
+            pkColumnValue = "order_outbox", allocationSize = 50)
+    private Long id;
+
+    @Column(name = "order_id", nullable = false)
+    private Long orderId;
+
+    @Column(name = "event_type", nullable = false)
+    private String eventType;
+
+    @Lob
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String payload;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "published_at")
+    private LocalDateTime publishedAt;
+
+    private int attempts;
+
+    @Column(name = "last_error")
+    private String lastError;
+
+    @Column(name = "claimed_until")
+    private LocalDateTime claimedUntil;
+
+    @Column(name = "next_attempt_at")
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "delivered_to")
+    private String deliveredTo;
+
+    @Column(name = "dead_at")
+    private LocalDateTime deadAt;
+
+    public boolean isDeliveredTo(String subscriber) {
+        return deliveredTo != null && List.of(deliveredTo.split(",")).contains(subscriber);
+    }
+
+    public void markDeliveredTo(String subscriber) {
+        if (!isDeliveredTo(subscriber)) {
+            deliveredTo = deliveredTo == null ? subscriber : deliveredTo + "," + subscriber;
+        }
+    }
+}
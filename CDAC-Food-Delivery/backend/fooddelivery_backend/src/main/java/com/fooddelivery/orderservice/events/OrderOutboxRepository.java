@@ -0,0 +1,35 @@
+package com.fooddelivery.orderservice.events;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.*;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface OrderOutboxRepository extends JpaRepository<OrderOutboxEvent, Long> {
+
+    // FOR UPDATE SKIP LOCKED, so several instances can claim without double-claiming;
+    // the caller stamps claimedUntil and commits before delivering
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT e FROM OrderOutboxEvent e WHERE e.publishedAt IS NULL AND e.deadAt IS NULL " +
+            "AND (e.nextAttemptAt IS NULL OR e.nextAttemptAt <= :now) " +
+            "AND (e.claimedUntil IS NULL OR e.claimedUntil < :now) ORDER BY e.id")
+    List<OrderOutboxEvent> claimPending(@Param("now") LocalDateTime now, Limit limit);
+
+    @Query("SELECT MIN(e.createdAt) FROM OrderOutboxEvent e WHERE e.publishedAt IS NULL AND e.deadAt IS NULL")
+    LocalDateTime findOldestPendingCreatedAt();
+
+    @Modifying
+    @Query("DELETE FROM OrderOutboxEvent e WHERE e.publishedAt < :before")
+    int deletePublishedBefore(@Param("before") LocalDateTime before);
+
+    @Modifying
+    @Query("DELETE FROM OrderOutboxEvent e WHERE e.publishedAt IS NULL AND e.deadAt < :before")
+    int deleteDeadBefore(@Param("before") LocalDateTime before);
+}
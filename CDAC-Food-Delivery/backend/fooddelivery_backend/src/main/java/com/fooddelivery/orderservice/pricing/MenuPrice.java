@@ -0,0 +1,5 @@
+package com.fooddelivery.orderservice.pricing;
+
+// Cached slice of a menu item that order pricing needs
+public record MenuPrice(Long menuItemId, String name, Integer price, boolean available, Long hotelId) {
+}
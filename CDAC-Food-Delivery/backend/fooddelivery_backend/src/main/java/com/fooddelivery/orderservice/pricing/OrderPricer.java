@@ -0,0 +1,146 @@
+package com.fooddelivery.orderservice.pricing;
+
+import com.fooddelivery.clients.MenuServiceClient;
+import com.fooddelivery.clients.dto.MenuSummaryDTO;
+import com.fooddelivery.orderservice.entity.Order;
+import com.fooddelivery.orderservice.entity.OrderItem;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.*;
+
+/**
+ * Prices orders on the server from menu-service data instead of trusting the
+ * client. Menu prices are held in a bounded local cache (TTL + size eviction);
+ * misses for a whole cart are filled with one bulk call to menu-service.
+ *
+ * Metrics: cache.* tagged cache=order.menu-price (hit ratio, evictions) and
+ * order.pricing.miss.latency for the bulk fill.
+ */
+@Component
+public class OrderPricer {
+
+    private static final int MENU_BATCH_LIMIT = 200;
+
+    private final MenuServiceClient menuServiceClient;
+    private final Cache<Long, MenuPrice> priceCache;
+    private final Timer missLatency;
+
+    private final double platformFee;
+    private final double deliveryFee;
+    private final double freeDeliveryThreshold;
+
+    public OrderPricer(MenuServiceClient menuServiceClient,
+                       MeterRegistry meterRegistry,
+                       @Value("${order.pricing.cache.ttl:PT5M}") Duration ttl,
+                       @Value("${order.pricing.cache.max-size:20000}") long maxSize,
+                       @Value("${order.pricing.platform-fee:10}") double platformFee,
+                       @Value("${order.pricing.delivery-fee:29}") double deliveryFee,
+                       @Value("${order.pricing.free-delivery-threshold:500}") double freeDeliveryThreshold) {
+        this.menuServiceClient = menuServiceClient;
+        this.priceCache = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(maxSize)
+                .recordStats()
+                .build();
+        this.missLatency = Timer.builder("order.pricing.miss.latency")
+                .description("Bulk menu-service lookups for cache misses")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        this.platformFee = platformFee;
+        this.deliveryFee = deliveryFee;
+        this.freeDeliveryThreshold = freeDeliveryThreshold;
+        CaffeineCacheMetrics.monitor(meterRegistry, priceCache, "order.menu-price");
+    }
+
+    /**
+     * Overwrites item prices/names from the menu and recomputes the total
+     * (subtotal + delivery + platform fee, same rules as the checkout page).
+     */
+    public void price(Order order) {
+        order.setTotalAmount(quote(order.getItems()).totalAmount());
+    }
+
+    /**
+     * Prices the items from the menu, overwriting their submitted price and
+     * name. Every item must reference a menu item, and all of them must come
+     * from the same hotel.
+     */
+    public PriceQuote quote(List<OrderItem> items) {
+        if (items == null || items.isEmpty()) {
+            throw new IllegalArgumentException("Order must contain at least one item");
+        }
+
+        Set<Long> menuIds = new HashSet<>();
+        for (OrderItem item : items) {
+            if (item.getQuantity() == null || item.getQuantity() <= 0) {
+                throw new IllegalArgumentException("Quantity must be greater than 0");
+            }
+            if (item.getMenuItemId() == null) {
+                throw new IllegalArgumentException("Menu item ID is required for item " + item.getName());
+            }
+            menuIds.add(item.getMenuItemId());
+        }
+
+        Map<Long, MenuPrice> prices = resolve(menuIds);
+
+        Long hotelId = null;
+        double subtotal = 0;
+        for (OrderItem item : items) {
+            MenuPrice menuPrice = prices.get(item.getMenuItemId());
+            if (menuPrice == null) {
+                throw new IllegalArgumentException("Menu item not found with id: " + item.getMenuItemId());
+            }
+            if (!menuPrice.available()) {
+                throw new IllegalArgumentException(menuPrice.name() + " is currently unavailable");
+            }
+            if (hotelId == null) {
+                hotelId = menuPrice.hotelId();
+            } else if (!hotelId.equals(menuPrice.hotelId())) {
+                throw new IllegalArgumentException("All items in an order must come from the same restaurant");
+            }
+            item.setPrice(menuPrice.price().doubleValue());
+            item.setName(menuPrice.name());
+            subtotal += item.getPrice() * item.getQuantity();
+        }
+
+        double delivery = subtotal > freeDeliveryThreshold ? 0 : deliveryFee;
+        return new PriceQuote(subtotal, delivery, platformFee, subtotal + delivery + platformFee);
+    }
+
+    /** Returns cached prices for the given ids; unknown ids are absent from the map. */
+    public Map<Long, MenuPrice> resolve(Collection<Long> menuIds) {
+        if (menuIds.isEmpty()) {
+            return Map.of();
+        }
+        return priceCache.getAll(menuIds, this::loadAll);
+    }
+
+    private Map<Long, MenuPrice> loadAll(Set<? extends Long> missing) {
+        Map<Long, MenuPrice> loaded = new HashMap<>();
+        List<Long> ids = new ArrayList<>(missing);
+        for (int from = 0; from < ids.size(); from += MENU_BATCH_LIMIT) {
+            List<Long> chunk = ids.subList(from, Math.min(from + MENU_BATCH_LIMIT, ids.size()));
+            List<MenuSummaryDTO> menus;
+            Timer.Sample sample = Timer.start();
+            try {
+                menus = menuServiceClient.getMenusByIds(chunk);
+            } catch (RuntimeException e) {
+                throw new PricingUnavailableException("Menu service unavailable, cannot price order", e);
+            } finally {
+                sample.stop(missLatency);
+            }
+            for (MenuSummaryDTO menu : menus) {
+                loaded.put(menu.getId(), new MenuPrice(menu.getId(), menu.getName(), menu.getPrice(),
+                        !Boolean.FALSE.equals(menu.getIsAvailable()), menu.getHotelId()));
+            }
+        }
+        return loaded;
+    }
+}
@@ -0,0 +1,5 @@
+package com.fooddelivery.orderservice.pricing;
+
+// Server-side price of a cart; what checkout shows and what the payment is created for
+public record PriceQuote(double subtotal, double deliveryFee, double platformFee, double totalAmount) {
+}
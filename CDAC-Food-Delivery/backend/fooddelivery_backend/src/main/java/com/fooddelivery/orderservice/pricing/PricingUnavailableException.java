@@ -0,0 +1,8 @@
+package com.fooddelivery.orderservice.pricing;
+
+public class PricingUnavailableException extends RuntimeException {
+
+    public PricingUnavailableException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
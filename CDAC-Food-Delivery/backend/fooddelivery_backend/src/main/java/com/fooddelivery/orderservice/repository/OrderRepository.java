@@ -1,9 +1,39 @@
 package com.fooddelivery.orderservice.repository;
 
 import com.fooddelivery.orderservice.entity.Order;
+import com.fooddelivery.orderservice.enums.OrderStatus;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
 @Repository
 public interface OrderRepository extends JpaRepository<Order, Long> {
+
+    // First page of a user's history, newest first (served by idx_orders_user_date)
+    List<Order> findByUserEmailOrderByOrderDateDescIdDesc(String userEmail, Limit limit);
+
+    // Keyset continuation: everything strictly older than the (orderDate, id) cursor
+    @Query("SELECT o FROM Order o WHERE o.userEmail = :email " +
+            "AND (o.orderDate < :orderDate OR (o.orderDate = :orderDate AND o.id < :id)) " +
+            "ORDER BY o.orderDate DESC, o.id DESC")
+    List<Order> findPageAfter(@Param("email") String email,
+                              @Param("orderDate") LocalDateTime orderDate,
+                              @Param("id") Long id,
+                              Limit limit);
+
+    @Query("SELECT o.status FROM Order o WHERE o.id = :id")
+    Optional<OrderStatus> findStatusById(@Param("id") Long id);
+
+    // Compare-and-set: only moves the order if it is still in the expected status
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Order o SET o.status = :to, o.version = o.version + 1 " +
+            "WHERE o.id = :id AND o.status = :from")
+    int transitionStatus(@Param("id") Long id, @Param("from") OrderStatus from, @Param("to") OrderStatus to);
 }
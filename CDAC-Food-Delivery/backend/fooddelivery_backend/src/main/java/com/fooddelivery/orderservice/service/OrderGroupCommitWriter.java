@@ -0,0 +1,236 @@
+package com.fooddelivery.orderservice.service;
+
+import com.fooddelivery.orderservice.entity.Order;
+import com.fooddelivery.orderservice.events.OrderEvent;
+import com.fooddelivery.orderservice.events.OrderEventPublisher;
+import com.fooddelivery.orderservice.repository.OrderRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+
+/**
+ * Persists new orders together with their outbox event.
+ *
+ * With order.group-commit.enabled=true, concurrent writes are queued and a
+ * single writer thread commits them in micro-batches (at most max-batch
+ * orders, waiting at most max-linger for the batch to fill), so a lunch-time
+ * burst pays one transaction and one fsync per batch instead of per order.
+ * Each caller still gets its own saved order back. If a batch fails, its
+ * orders are retried one transaction each so a single bad order cannot fail
+ * its neighbours.
+ *
+ * Callers wait at most write-timeout for their batch. A write still queued
+ * by then is committed on the caller's thread instead; one the writer thread
+ * already took may yet commit, so the caller gets OrderWriteTimeoutException
+ * carrying its eventual outcome. On shutdown, writes the writer thread never
+ * picked up are cancelled and committed on the caller's thread instead.
+ *
+ * Metrics: order.group-commit.commits, order.group-commit.batch-size,
+ * order.group-commit.queue-wait (latency added by waiting for the batch).
+ */
+@Component
+public class OrderGroupCommitWriter {
+
+    private static final Logger log = LoggerFactory.getLogger(OrderGroupCommitWriter.class);
+
+    private final OrderRepository orderRepository;
+    private final OrderEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+
+    private final boolean enabled;
+    private final int maxBatch;
+    private final long maxLingerNanos;
+    private final Duration writeTimeout;
+    private final BlockingQueue<PendingWrite> queue;
+    private volatile Thread writerThread;
+    private volatile boolean running;
+
+    private final Counter commits;
+    private final DistributionSummary batchSizes;
+    private final Timer queueWait;
+
+    public OrderGroupCommitWriter(OrderRepository orderRepository,
+                                  OrderEventPublisher eventPublisher,
+                                  TransactionTemplate transactionTemplate,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${order.group-commit.enabled:false}") boolean enabled,
+                                  @Value("${order.group-commit.max-batch:64}") int maxBatch,
+                                  @Value("${order.group-commit.max-linger:PT0.005S}") Duration maxLinger,
+                                  @Value("${order.group-commit.queue-capacity:10000}") int queueCapacity,
+                                  @Value("${order.group-commit.write-timeout:PT10S}") Duration writeTimeout) {
+        this.orderRepository = orderRepository;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = transactionTemplate;
+        this.enabled = enabled;
+        this.maxBatch = maxBatch;
+        this.maxLingerNanos = maxLinger.toNanos();
+        this.writeTimeout = writeTimeout;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+
+        this.commits = meterRegistry.counter("order.group-commit.commits");
+        this.batchSizes = DistributionSummary.builder("order.group-commit.batch-size")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        this.queueWait = Timer.builder("order.group-commit.queue-wait")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        running = true;
+        writerThread = new Thread(this::runLoop, "order-group-commit");
+        writerThread.setDaemon(true);
+        writerThread.start();
+        log.info("Order group commit enabled (max batch {}, max linger {}us)", maxBatch, maxLingerNanos / 1000);
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        if (writerThread != null) {
+            writerThread.interrupt();
+            writerThread.join(TimeUnit.SECONDS.toMillis(5));
+        }
+        // Anything still queued was never handed to a transaction; its callers write it themselves
+        List<PendingWrite> abandoned = new ArrayList<>();
+        queue.drainTo(abandoned);
+        abandoned.forEach(p -> p.result().cancel(false));
+    }
+
+    public Order write(Order order) {
+        if (!running) {
+            return writeOne(order);
+        }
+        PendingWrite pending = new PendingWrite(order, System.nanoTime(), new CompletableFuture<>());
+        if (!queue.offer(pending)) {
+            // Queue full: do not add unbounded latency, commit on the caller's thread
+            return writeOne(order);
+        }
+        if (!running && queue.remove(pending)) {
+            // stop() ran between the check and the offer, and nobody took the write yet
+            return writeOne(order);
+        }
+        try {
+            return pending.result().get(writeTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (CancellationException e) {
+            return writeOne(order);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (TimeoutException e) {
+            if (queue.remove(pending)) {
+                // Still queued, so never committed: safe to write here
+                return writeOne(order);
+            }
+            // The writer has it and will still complete the future with the real outcome
+            throw new OrderWriteTimeoutException("Order was not confirmed within " + writeTimeout.toMillis()
+                    + " ms and may still be placed", pending.result());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new OrderWriteTimeoutException("Interrupted while waiting for the order to be committed",
+                    pending.result());
+        }
+    }
+
+    private Order writeOne(Order order) {
+        return transactionTemplate.execute(status -> persist(order));
+    }
+
+    private Order persist(Order order) {
+        Order saved = orderRepository.save(order);
+        eventPublisher.publish(OrderEvent.ORDER_CREATED, saved);
+        return saved;
+    }
+
+    private void runLoop() {
+        List<PendingWrite> batch = new ArrayList<>(maxBatch);
+        while (running || !queue.isEmpty()) {
+            try {
+                PendingWrite first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                long deadline = System.nanoTime() + maxLingerNanos;
+                while (batch.size() < maxBatch) {
+                    long remaining = deadline - System.nanoTime();
+                    PendingWrite next = remaining > 0 ? queue.poll(remaining, TimeUnit.NANOSECONDS) : queue.poll();
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+            } catch (InterruptedException e) {
+                // Shutting down: flush whatever is already queued
+                queue.drainTo(batch, maxBatch - batch.size());
+            }
+            if (!batch.isEmpty()) {
+                commit(batch);
+                batch.clear();
+            }
+        }
+    }
+
+    private void commit(List<PendingWrite> batch) {
+        long start = System.nanoTime();
+        batch.forEach(p -> queueWait.record(start - p.enqueuedAt(), TimeUnit.NANOSECONDS));
+        batchSizes.record(batch.size());
+        try {
+            List<Order> saved = transactionTemplate.execute(status -> {
+                List<Order> result = new ArrayList<>(batch.size());
+                for (PendingWrite p : batch) {
+                    result.add(persist(p.order()));
+                }
+                return result;
+            });
+            commits.increment();
+            for (int i = 0; i < batch.size(); i++) {
+                batch.get(i).result().complete(saved.get(i));
+            }
+        } catch (RuntimeException batchFailure) {
+            log.warn("Group commit of {} orders failed, retrying individually: {}",
+                    batch.size(), batchFailure.getMessage());
+            for (PendingWrite p : batch) {
+                try {
+                    resetForRetry(p.order());
+                    p.result().complete(writeOne(p.order()));
+                    commits.increment();
+                } catch (RuntimeException e) {
+                    p.result().completeExceptionally(e);
+                }
+            }
+        }
+    }
+
+    // Undo what the rolled-back persist left behind (generated ids, session-bound collection)
+    private void resetForRetry(Order order) {
+        order.setId(null);
+        order.setVersion(null);
+        if (order.getItems() != null) {
+            order.getItems().forEach(item -> item.setId(null));
+            order.setItems(new ArrayList<>(order.getItems()));
+        }
+    }
+
+    private record PendingWrite(Order order, long enqueuedAt, CompletableFuture<Order> result) {
+    }
+}
@@ -0,0 +1,8 @@
+package com.fooddelivery.orderservice.service;
+
+public class OrderNotFoundException extends RuntimeException {
+
+    public OrderNotFoundException(Long id) {
+        super("Order not found with id: " + id);
+    }
+}
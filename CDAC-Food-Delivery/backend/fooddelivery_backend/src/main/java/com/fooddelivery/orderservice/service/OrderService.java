@@ -0,0 +1,22 @@
+package com.fooddelivery.orderservice.service;
+
+import com.fooddelivery.orderservice.dto.OrderPageResponse;
+import com.fooddelivery.orderservice.entity.Order;
+import com.fooddelivery.orderservice.enums.OrderStatus;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.Optional;
+
+public interface OrderService {
+
+    Order createOrder(Order order);
+
+    OrderPageResponse getOrdersByUser(String email, String pageToken, int size);
+
+    Order updateStatus(Long id, OrderStatus target, OrderStatus expected);
+
+    /** Empty when the order does not exist; IllegalStateException when the stream limit is reached. */
+    Optional<SseEmitter> streamOrder(Long id);
+
+    SseEmitter streamUserOrders(String email);
+}
@@ -0,0 +1,155 @@
+package com.fooddelivery.orderservice.service;
+
+import com.fooddelivery.orderservice.archive.ArchivedOrder;
+import com.fooddelivery.orderservice.archive.ArchivedOrderRepository;
+import com.fooddelivery.orderservice.dto.OrderPageResponse;
+import com.fooddelivery.orderservice.entity.Order;
+import com.fooddelivery.orderservice.enums.OrderStatus;
+import com.fooddelivery.orderservice.events.OrderEvent;
+import com.fooddelivery.orderservice.events.OrderEventPublisher;
+import com.fooddelivery.orderservice.pricing.OrderPricer;
+import com.fooddelivery.orderservice.repository.OrderRepository;
+import com.fooddelivery.orderservice.stream.OrderStreamRegistry;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+
+@Service
+public class OrderServiceImpl implements OrderService {
+
+    static final int MAX_PAGE_SIZE = 50;
+
+    // Same order as the (orderDate, id) keyset queries
+    private static final Comparator<Order> NEWEST_FIRST =
+            Comparator.comparing(Order::getOrderDate).thenComparing(Order::getId).reversed();
+
+    private final OrderRepository orderRepository;
+    private final ArchivedOrderRepository archivedOrderRepository;
+    private final OrderPricer orderPricer;
+    private final OrderGroupCommitWriter orderWriter;
+    private final OrderEventPublisher eventPublisher;
+    private final OrderStreamRegistry streamRegistry;
+
+    public OrderServiceImpl(OrderRepository orderRepository, ArchivedOrderRepository archivedOrderRepository,
+                            OrderPricer orderPricer, OrderGroupCommitWriter orderWriter,
+                            OrderEventPublisher eventPublisher, OrderStreamRegistry streamRegistry) {
+        this.orderRepository = orderRepository;
+        this.archivedOrderRepository = archivedOrderRepository;
+        this.orderPricer = orderPricer;
+        this.orderWriter = orderWriter;
+        this.eventPublisher = eventPublisher;
+        this.streamRegistry = streamRegistry;
+    }
+
+    @Override
+    public Order createOrder(Order order) {
+        // Priced before the transaction so a menu-service miss never holds a DB connection
+        orderPricer.price(order); // never trust client-side prices or totals
+        order.setOrderDate(LocalDateTime.now());
+        order.setStatus(OrderStatus.PLACED); // Payment is confirmed before the order is submitted
+        order.setId(null);
+        order.setVersion(null);
+        return orderWriter.write(order);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public OrderPageResponse getOrdersByUser(String email, String pageToken, int size) {
+        if (size <= 0 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("Page size must be between 1 and " + MAX_PAGE_SIZE);
+        }
+
+        // Fetch one extra row to know whether another page exists
+        int wanted = size + 1;
+        OrderPageToken cursor = pageToken == null || pageToken.isBlank() ? null : OrderPageToken.decode(pageToken);
+        List<Order> hot = cursor == null
+                ? orderRepository.findByUserEmailOrderByOrderDateDescIdDesc(email, Limit.of(wanted))
+                : orderRepository.findPageAfter(email, cursor.orderDate(), cursor.id(), Limit.of(wanted));
+
+        // Unfinished orders are never archived however old they are, so the two tables overlap in
+        // time: read both from the same cursor and merge
+        List<ArchivedOrder> archived = cursor == null
+                ? archivedOrderRepository.findByUserEmailOrderByOrderDateDescIdDesc(email, Limit.of(wanted))
+                : archivedOrderRepository.findPageAfter(email, cursor.orderDate(), cursor.id(), Limit.of(wanted));
+        List<Order> orders = new ArrayList<>(hot.size() + archived.size());
+        orders.addAll(hot);
+        archived.forEach(a -> orders.add(a.toOrder()));
+        orders.sort(NEWEST_FIRST);
+        if (orders.size() > wanted) {
+            orders.subList(wanted, orders.size()).clear();
+        }
+
+        String nextPageToken = null;
+        List<Order> page = orders;
+        if (orders.size() > size) {
+            page = orders.subList(0, size);
+            Order last = page.get(size - 1);
+            nextPageToken = new OrderPageToken(last.getOrderDate(), last.getId()).encode();
+        }
+        // Initialise the lazy item collections (batched) before leaving the transaction
+        page.forEach(o -> o.getItems().size());
+        return new OrderPageResponse(List.copyOf(page), nextPageToken);
+    }
+
+    @Override
+    @Transactional
+    public Order updateStatus(Long id, OrderStatus target, OrderStatus expected) {
+        if (target == null) {
+            throw new IllegalArgumentException("Status is required");
+        }
+        OrderStatus from = expected;
+        if (from == null) {
+            from = orderRepository.findStatusById(id)
+                    .orElseThrow(() -> new OrderNotFoundException(id));
+        }
+        if (!from.canTransitionTo(target)) {
+            throw new IllegalArgumentException("Cannot move order from " + from.getLabel()
+                    + " to " + target.getLabel());
+        }
+
+        // One conditional UPDATE; no read-modify-write window for a concurrent transition to slip into
+        if (orderRepository.transitionStatus(id, from, target) == 0) {
+            OrderStatus current = orderRepository.findStatusById(id)
+                    .orElseThrow(() -> new OrderNotFoundException(id));
+            throw new OrderStatusConflictException("Order " + id + " is " + current.getLabel()
+                    + ", not " + from.getLabel(), current);
+        }
+
+        Order updated = orderRepository.findById(id)
+                .orElseThrow(() -> new OrderNotFoundException(id));
+        eventPublisher.publish(OrderEvent.ORDER_STATUS_CHANGED, updated);
+        return updated;
+    }
+
+    @Override
+    public Optional<SseEmitter> streamOrder(Long id) {
+        Optional<Order> order = orderRepository.findById(id);
+        if (order.isEmpty()) {
+            return Optional.empty();
+        }
+        Order current = order.get();
+        SseEmitter emitter = streamRegistry.subscribeToOrder(id, new OrderEvent(null, "SNAPSHOT",
+                current.getId(), current.getUserEmail(), current.getStatus().getLabel(), current.getTotalAmount(),
+                LocalDateTime.now(), null));
+        return Optional.of(requireCapacity(emitter));
+    }
+
+    @Override
+    public SseEmitter streamUserOrders(String email) {
+        return requireCapacity(streamRegistry.subscribeToUser(email));
+    }
+
+    private SseEmitter requireCapacity(SseEmitter emitter) {
+        if (emitter == null) {
+            throw new IllegalStateException("Too many open order streams on this instance");
+        }
+        return emitter;
+    }
+}
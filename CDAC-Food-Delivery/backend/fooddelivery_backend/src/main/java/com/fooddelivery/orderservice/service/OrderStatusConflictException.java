@@ -0,0 +1,18 @@
+package com.fooddelivery.orderservice.service;
+
+import com.fooddelivery.orderservice.enums.OrderStatus;
+
+// A status transition lost a race or does not match the caller's expected status
+public class OrderStatusConflictException extends RuntimeException {
+
+    private final OrderStatus currentStatus;
+
+    public OrderStatusConflictException(String message, OrderStatus currentStatus) {
+        super(message);
+        this.currentStatus = currentStatus;
+    }
+
+    public OrderStatus getCurrentStatus() {
+        return currentStatus;
+    }
+}
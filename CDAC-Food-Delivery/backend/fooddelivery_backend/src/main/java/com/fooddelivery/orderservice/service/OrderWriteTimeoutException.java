@@ -0,0 +1,21 @@
+package com.fooddelivery.orderservice.service;
+
+import com.fooddelivery.orderservice.entity.Order;
+
+import java.util.concurrent.CompletableFuture;
+
+// The group-commit writer did not confirm the order in time; it may still be committed.
+// outcome completes with the saved order, or exceptionally if it was not written after all.
+public class OrderWriteTimeoutException extends RuntimeException {
+
+    private final transient CompletableFuture<Order> outcome;
+
+    public OrderWriteTimeoutException(String message, CompletableFuture<Order> outcome) {
+        super(message);
+        this.outcome = outcome;
+    }
+
+    public CompletableFuture<Order> getOutcome() {
+        return outcome;
+    }
+}
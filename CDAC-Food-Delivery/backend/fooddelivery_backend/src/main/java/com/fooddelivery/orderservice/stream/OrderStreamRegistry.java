@@ -0,0 +1,188 @@
+package com.fooddelivery.orderservice.stream;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fooddelivery.orderservice.events.OrderEvent;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Fan-out of order events to open SSE connections, keyed by order id and by
+ * user email. Each event is serialized once and the same frame is written to
+ * every subscriber.
+ *
+ * Idle connections cost no thread: emitters are async servlet responses and
+ * only a small sender pool writes to them. Each connection has a bounded send
+ * queue; a client that falls that far behind is disconnected (it reconnects
+ * and re-reads its orders) instead of stalling the others.
+ */
+@Component
+public class OrderStreamRegistry {
+
+    private final Map<Long, Set<Subscription>> byOrder = new ConcurrentHashMap<>();
+    private final Map<String, Set<Subscription>> byUser = new ConcurrentHashMap<>();
+    private final AtomicInteger open = new AtomicInteger();
+    private final ExecutorService senders;
+    private final ObjectMapper objectMapper;
+
+    private final long timeoutMillis;
+    private final int maxConnections;
+    private final int queueCapacity;
+
+    public OrderStreamRegistry(ObjectMapper objectMapper,
+                               MeterRegistry meterRegistry,
+                               @Value("${order.stream.timeout:PT30M}") Duration timeout,
+                               @Value("${order.stream.max-connections:20000}") int maxConnections,
+                               @Value("${order.stream.queue-capacity:32}") int queueCapacity,
+                               @Value("${order.stream.sender-threads:4}") int senderThreads) {
+        this.objectMapper = objectMapper;
+        this.timeoutMillis = timeout.toMillis();
+        this.maxConnections = maxConnections;
+        this.queueCapacity = queueCapacity;
+        this.senders = Executors.newFixedThreadPool(senderThreads, r -> {
+            Thread t = new Thread(r, "order-stream-sender");
+            t.setDaemon(true);
+            return t;
+        });
+        Gauge.builder("order.stream.connections", open, AtomicInteger::get).register(meterRegistry);
+    }
+
+    /** Returns null when the instance is at its connection limit. */
+    public SseEmitter subscribeToOrder(Long orderId, OrderEvent current) {
+        return subscribe(byOrder, orderId, current);
+    }
+
+    public SseEmitter subscribeToUser(String email) {
+        return subscribe(byUser, email, null);
+    }
+
+    public void publish(OrderEvent event) {
+        Set<DataWithMediaType> frame = SseEmitter.event()
+                .id(String.valueOf(event.eventId()))
+                .name(event.type())
+                .data(toJson(event), MediaType.APPLICATION_JSON)
+                .build();
+        enqueueAll(byOrder.get(event.orderId()), frame);
+        if (event.userEmail() != null) {
+            enqueueAll(byUser.get(event.userEmail()), frame);
+        }
+    }
+
+    // Keeps proxies (nginx, gateway) from closing idle streams
+    @Scheduled(fixedDelayString = "${order.stream.heartbeat-ms:15000}")
+    public void heartbeat() {
+        Set<DataWithMediaType> frame = SseEmitter.event().comment("heartbeat").build();
+        byOrder.values().forEach(subs -> enqueueAll(subs, frame));
+        byUser.values().forEach(subs -> enqueueAll(subs, frame));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        senders.shutdownNow();
+    }
+
+    private <K> SseEmitter subscribe(Map<K, Set<Subscription>> index, K key, OrderEvent initial) {
+        if (open.incrementAndGet() > maxConnections) {
+            open.decrementAndGet();
+            return null;
+        }
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        Subscription subscription = new Subscription(emitter);
+        index.computeIfAbsent(key, k -> ConcurrentHashMap.newKeySet()).add(subscription);
+
+        Runnable remove = () -> {
+            if (subscription.closed.compareAndSet(false, true)) {
+                open.decrementAndGet();
+                index.computeIfPresent(key, (k, subs) -> {
+                    subs.remove(subscription);
+                    return subs.isEmpty() ? null : subs;
+                });
+            }
+        };
+        emitter.onCompletion(remove);
+        emitter.onTimeout(remove);
+        emitter.onError(e -> remove.run());
+
+        if (initial != null) {
+            subscription.enqueue(SseEmitter.event().name("SNAPSHOT")
+                    .data(toJson(initial), MediaType.APPLICATION_JSON).build());
+        }
+        return emitter;
+    }
+
+    private String toJson(OrderEvent event) {
+        try {
+            return objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize order event", e);
+        }
+    }
+
+    private void enqueueAll(Set<Subscription> subscriptions, Set<DataWithMediaType> frame) {
+        if (subscriptions != null) {
+            subscriptions.forEach(s -> s.enqueue(frame));
+        }
+    }
+
+    private final class Subscription {
+        private final SseEmitter emitter;
+        private final Queue<Set<DataWithMediaType>> pending = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger queued = new AtomicInteger();
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private final AtomicBoolean closed = new AtomicBoolean();
+
+        Subscription(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+
+        void enqueue(Set<DataWithMediaType> frame) {
+            if (closed.get()) {
+                return;
+            }
+            if (queued.incrementAndGet() > queueCapacity) {
+                // Slow consumer: drop the connection rather than buffer without bound
+                emitter.complete();
+                return;
+            }
+            pending.add(frame);
+            if (draining.compareAndSet(false, true)) {
+                senders.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            Set<DataWithMediaType> frame;
+            while ((frame = pending.poll()) != null) {
+                queued.decrementAndGet();
+                try {
+                    emitter.send(frame);
+                } catch (IOException | IllegalStateException e) {
+                    emitter.completeWithError(e);
+                    pending.clear();
+                    return;
+                }
+            }
+            draining.set(false);
+            // An enqueue may have raced with the flag reset
+            if (!pending.isEmpty() && draining.compareAndSet(false, true)) {
+                senders.execute(this::drain);
+            }
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.fooddelivery.orderservice.stream;
+
+import com.fooddelivery.orderservice.events.OrderEvent;
+import com.fooddelivery.internal.InternalTokenFilter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.discovery.DiscoveryClient;
+import org.springframework.cloud.client.serviceregistry.Registration;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Forwards outbox events to the other instances registered in Eureka, so a
+ * stream held open on any instance sees the change whichever instance
+ * claimed the event from the outbox. Peers POST the batch straight into
+ * their own {@link OrderStreamRegistry}.
+ *
+ * Best effort and asynchronous, like the streams themselves: a client that
+ * misses a frame gets the current state from the SNAPSHOT on reconnect.
+ */
+@Component
+public class OrderStreamRelay {
+
+    private static final Logger log = LoggerFactory.getLogger(OrderStreamRelay.class);
+
+    static final String EVENTS_PATH = "/internal/orders/stream/events";
+
+    private final DiscoveryClient discoveryClient;
+    private final ObjectProvider<Registration> self;
+    private final RestTemplate restTemplate;
+    private final String serviceId;
+    private final boolean enabled;
+    private final ExecutorService senders;
+
+    public OrderStreamRelay(DiscoveryClient discoveryClient, ObjectProvider<Registration> self,
+                            RestTemplateBuilder builder,
+                            @Value("${spring.application.name}") String serviceId,
+                            @Value("${order.stream.relay.enabled:true}") boolean enabled,
+                            @Value("${order.stream.relay.queue-capacity:1000}") int queueCapacity,
+                            @Value("${internal.token}") String internalToken) {
+        this.discoveryClient = discoveryClient;
+        this.self = self;
+        this.restTemplate = builder
+                .setConnectTimeout(Duration.ofSeconds(1))
+                .setReadTimeout(Duration.ofSeconds(2))
+                .defaultHeader(InternalTokenFilter.HEADER, internalToken)
+                .build();
+        this.serviceId = serviceId;
+        this.enabled = enabled;
+        this.senders = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(queueCapacity), r -> {
+                    Thread t = new Thread(r, "order-stream-relay");
+                    t.setDaemon(true);
+                    return t;
+                });
+    }
+
+    public void relay(List<OrderEvent> events) {
+        if (!enabled || events.isEmpty()) {
+            return;
+        }
+        try {
+            senders.execute(() -> send(events));
+        } catch (RejectedExecutionException e) {
+            log.warn("{} order stream events not relayed to peers, relay queue is full", events.size());
+        }
+    }
+
+    private void send(List<OrderEvent> events) {
+        for (ServiceInstance peer : peers()) {
+            try {
+                restTemplate.postForEntity(peer.getUri().resolve(EVENTS_PATH), events, Void.class);
+            } catch (Exception e) {
+                log.warn("{} order stream events not relayed to {}: {}", events.size(), peer.getUri(), e.getMessage());
+            }
+        }
+    }
+
+    private List<ServiceInstance> peers() {
+        Registration me = self.getIfAvailable();
+        return discoveryClient.getInstances(serviceId).stream()
+                .filter(instance -> me == null || !isSameInstance(instance, me))
+                .toList();
+    }
+
+    private static boolean isSameInstance(ServiceInstance instance, Registration me) {
+        return instance.getHost().equalsIgnoreCase(me.getHost()) && instance.getPort() == me.getPort();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        senders.shutdownNow();
+    }
+}
@@ -0,0 +1,32 @@
+package com.fooddelivery.orderservice.stream;
+
+import com.fooddelivery.orderservice.events.OrderEvent;
+import com.fooddelivery.orderservice.events.OrderEventSubscriber;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+// Feeds outbox events into the live SSE streams of this instance and relays them to its peers,
+// since only the instance that claimed an outbox row sees it here
+@Component
+public class OrderStreamSubscriber implements OrderEventSubscriber {
+
+    private final OrderStreamRegistry registry;
+    private final OrderStreamRelay relay;
+
+    public OrderStreamSubscriber(OrderStreamRegistry registry, OrderStreamRelay relay) {
+        this.registry = registry;
+        this.relay = relay;
+    }
+
+    @Override
+    public String name() {
+        return "sse";
+    }
+
+    @Override
+    public void onEvents(List<OrderEvent> events) {
+        events.forEach(registry::publish);
+        relay.relay(events);
+    }
+}
@@ -1,5 +1,8 @@
 package com.fooddelivery.paymentservice;
 
+import com.fooddelivery.idempotency.IdempotencyConflictException;
+import com.fooddelivery.idempotency.IdempotencyService;
+import com.fooddelivery.orderservice.pricing.PricingUnavailableException;
 import com.fooddelivery.paymentservice.dto.OrderRequest;
 import com.fooddelivery.paymentservice.dto.OrderResponse;
 import com.fooddelivery.paymentservice.dto.PaymentVerificationRequest;
@@ -16,11 +19,29 @@ public class PaymentController {
     @Autowired
     private PaymentService paymentService;
 
+    @Autowired
+    private IdempotencyService idempotencyService;
+
     @PostMapping("/create-order")
-    public ResponseEntity<?> createOrder(@RequestBody OrderRequest request) {
+    public ResponseEntity<?> createOrder(
+            @RequestHeader(value = IdempotencyService.HEADER, required = false) String idempotencyKey,
+            @RequestBody OrderRequest request) {
+        try {
+            return idempotencyService.execute("payments", idempotencyKey, request,
+                    () -> createRazorpayOrder(request));
+        } catch (IdempotencyConflictException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(e.getMessage());
+        }
+    }
+
+    private ResponseEntity<?> createRazorpayOrder(OrderRequest request) {
         try {
             OrderResponse response = paymentService.createOrder(request);
             return ResponseEntity.ok(response);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        } catch (PricingUnavailableException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(e.getMessage());
         } catch (RazorpayException e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
                     .body("Error creating order: " + e.getMessage());
@@ -1,5 +1,6 @@
 package com.fooddelivery.paymentservice;
 
+import com.fooddelivery.orderservice.pricing.OrderPricer;
 import com.fooddelivery.paymentservice.dto.OrderRequest;
 import com.fooddelivery.paymentservice.dto.OrderResponse;
 import com.fooddelivery.paymentservice.dto.PaymentVerificationRequest;
@@ -21,20 +22,22 @@ public class PaymentService {
     @Autowired(required = false)
     private RazorpayClient razorpayClient;
 
+    @Autowired
+    private OrderPricer orderPricer;
+
     private String keyId = "rzp_test_1DP5mmOlF5G5ag";
     private String keySecret = "DUMMY_SECRET_KEY";
 
     public OrderResponse createOrder(OrderRequest request) throws RazorpayException {
-        if (request.getAmount() == null || request.getAmount() <= 0) {
-            throw new IllegalArgumentException("Amount must be greater than 0");
-        }
+        // Never charge a client-computed amount; price the cart the same way the order will be
+        double amount = orderPricer.quote(request.getItems()).totalAmount();
 
         if (isMockMode()) {
-            return createMockOrder(request.getAmount());
+            return createMockOrder(amount);
         }
 
         JSONObject options = new JSONObject();
-        int amountInPaise = (int) (request.getAmount() * 100);
+        int amountInPaise = (int) Math.round(amount * 100);
 
         options.put("amount", amountInPaise);
         options.put("currency", request.getCurrency() != null ? request.getCurrency() : "INR");
@@ -45,7 +48,7 @@ public class PaymentService {
 
         return OrderResponse.builder()
                 .orderId(order.get("id"))
-                .amount(request.getAmount())
+                .amount(amount)
                 .currency(order.get("currency"))
                 .status(order.get("status"))
                 .build();
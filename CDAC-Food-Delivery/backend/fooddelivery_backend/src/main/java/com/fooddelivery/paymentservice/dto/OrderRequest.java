@@ -1,10 +1,13 @@
 package com.fooddelivery.paymentservice.dto;
 
+import com.fooddelivery.orderservice.entity.OrderItem;
 import lombok.Data;
 
+import java.util.List;
+
 @Data
 public class OrderRequest {
-    private Double amount;
+    private List<OrderItem> items; // the cart; the amount is priced from it server-side
     private String currency; // Optional, defaults to INR
     private String receipt; // Optional
 }
@@ -0,0 +1,106 @@
+package com.fooddelivery.hotelservice.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.fooddelivery.clients.MenuServiceClient;
+import com.fooddelivery.hotelservice.entity.Hotel;
+import com.fooddelivery.hotelservice.index.HotelFacetIndex;
+import com.fooddelivery.hotelservice.index.HotelGeoIndex;
+import com.fooddelivery.hotelservice.index.HotelRatingIndex;
+import com.fooddelivery.hotelservice.repository.HotelRepository;
+import com.fooddelivery.hotelservice.repository.HotelReviewRepository;
+import com.fooddelivery.hotelservice.service.HotelServiceImpl;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class HotelNearCacheTest {
+
+    private HotelRepository repository;
+    private HotelNearCache cache;
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(HotelRepository.class);
+        cache = new HotelNearCache(repository, new SimpleMeterRegistry(), Duration.ofMinutes(5), 100);
+    }
+
+    @Test
+    void staleInvalidationIsIgnored() {
+        cache.put(hotel(1L, 5L));
+
+        assertFalse(cache.invalidate(new HotelInvalidation(1L, 3L, false)));
+
+        assertEquals(5L, cache.get(1L).orElseThrow().getVersion());
+        verify(repository, never()).findById(1L);
+    }
+
+    @Test
+    void newerInvalidationDropsTheEntry() {
+        cache.put(hotel(1L, 5L));
+        when(repository.findById(1L)).thenReturn(Optional.of(hotel(1L, 6L)));
+
+        assertTrue(cache.invalidate(new HotelInvalidation(1L, 6L, false)));
+
+        assertEquals(6L, cache.get(1L).orElseThrow().getVersion());
+        verify(repository).findById(1L);
+    }
+
+    @Test
+    void readThatRacedANewerWriteIsServedButNotCached() {
+        // The invalidation for version 6 lands while the read of version 5 is in flight
+        when(repository.findById(1L)).thenAnswer(invocation -> {
+            cache.invalidate(new HotelInvalidation(1L, 6L, false));
+            return Optional.of(hotel(1L, 5L));
+        });
+
+        assertEquals(5L, cache.get(1L).orElseThrow().getVersion());
+
+        when(repository.findById(1L)).thenReturn(Optional.of(hotel(1L, 6L)));
+        assertEquals(6L, cache.get(1L).orElseThrow().getVersion());
+        verify(repository, times(2)).findById(1L);
+    }
+
+    @Test
+    void deletionKeepsAnOlderReadOutOfTheCache() {
+        cache.invalidate(new HotelInvalidation(1L, 5L, true));
+
+        cache.put(hotel(1L, 5L));
+
+        when(repository.findById(1L)).thenReturn(Optional.empty());
+        assertTrue(cache.get(1L).isEmpty());
+    }
+
+    @Test
+    void forgedPeerDeletionIsCheckedAgainstTheDatabase() {
+        HotelServiceImpl service = new HotelServiceImpl(repository, mock(HotelReviewRepository.class),
+                mock(MenuServiceClient.class), mock(HotelGeoIndex.class), mock(HotelRatingIndex.class),
+                mock(HotelFacetIndex.class), List.of(), cache, mock(HotelCacheBroadcaster.class));
+        when(repository.findById(1L)).thenReturn(Optional.of(hotel(1L, 5L)));
+
+        service.applyPeerInvalidation(new HotelInvalidation(1L, Long.MAX_VALUE, true));
+
+        // The hotel still exists, so it stays cacheable and the next write's invalidation still applies
+        assertEquals(5L, cache.get(1L).orElseThrow().getVersion());
+        assertTrue(cache.invalidate(new HotelInvalidation(1L, 6L, false)));
+    }
+
+    private static Hotel hotel(Long id, Long version) {
+        Hotel hotel = new Hotel(id, "Hotel " + id, "Thai", "Pune", 4.0, 300, null);
+        hotel.setVersion(version);
+        return hotel;
+    }
+}
@@ -0,0 +1,163 @@
+package com.fooddelivery.hotelservice.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import com.fooddelivery.hotelservice.DTO.NearbyHotelDTO;
+import com.fooddelivery.hotelservice.entity.Hotel;
+
+/**
+ * Checks the grid search against a brute-force scan over the same hotels.
+ */
+class HotelGeoIndexTest {
+
+    private static final double CELL_DEGREES = 0.01;
+    private static final String[] CUISINES = { "North Indian", "Chinese, Thai", "Bakery, Desserts", "Italian" };
+
+    private final Random random = new Random(21);
+
+    @Test
+    void matchesBruteForceInADenseCity() {
+        List<Hotel> hotels = scatter(2_000, 18.52, 73.85, 0.2);
+        HotelGeoIndex index = index(hotels);
+
+        for (int i = 0; i < 200; i++) {
+            double lat = 18.52 + (random.nextDouble() - 0.5) * 0.3;
+            double lng = 73.85 + (random.nextDouble() - 0.5) * 0.3;
+            double radiusKm = 0.5 + random.nextDouble() * 15;
+            int k = 1 + random.nextInt(30);
+            String cuisine = random.nextInt(3) == 0 ? "thai" : null;
+            Double minRating = random.nextInt(3) == 0 ? 4.0 : null;
+            assertSameHits(bruteForce(hotels, lat, lng, radiusKm, k, cuisine, minRating),
+                    index.nearest(lat, lng, radiusKm, k, cuisine, minRating));
+        }
+    }
+
+    @Test
+    void matchesBruteForceForSparseHotelsFarApart() {
+        // A handful of occupied cells spread over a continent forces the direct scan of occupied cells
+        List<Hotel> hotels = scatter(40, 20, 78, 25);
+        HotelGeoIndex index = index(hotels);
+
+        for (int i = 0; i < 100; i++) {
+            double lat = 20 + (random.nextDouble() - 0.5) * 30;
+            double lng = 78 + (random.nextDouble() - 0.5) * 30;
+            int k = 1 + random.nextInt(10);
+            assertSameHits(bruteForce(hotels, lat, lng, 5_000, k, null, null),
+                    index.nearest(lat, lng, 5_000, k, null, null));
+        }
+    }
+
+    @Test
+    void matchesBruteForceAtHighLatitude() {
+        // Cells shrink east-west towards the pole, which is what minDistanceKm must allow for
+        List<Hotel> hotels = scatter(1_000, 69.65, 18.95, 0.6);
+        HotelGeoIndex index = index(hotels);
+
+        for (int i = 0; i < 100; i++) {
+            double lat = 69.65 + (random.nextDouble() - 0.5) * 0.8;
+            double lng = 18.95 + (random.nextDouble() - 0.5) * 0.8;
+            int k = 1 + random.nextInt(20);
+            assertSameHits(bruteForce(hotels, lat, lng, 20, k, null, null),
+                    index.nearest(lat, lng, 20, k, null, null));
+        }
+    }
+
+    @Test
+    void ringBoundNeverExceedsTheTrueDistance() {
+        HotelGeoIndex index = new HotelGeoIndex(CELL_DEGREES);
+        for (double baseLat : new double[] { 0.5, 18.5, 45.5, 69.5, 84.5 }) {
+            for (int trial = 0; trial < 2_000; trial++) {
+                // A point anywhere in the centre cell and one anywhere in ring r around it
+                int ring = 2 + random.nextInt(40);
+                double lat = cellStart(baseLat) + random.nextDouble() * CELL_DEGREES;
+                double lng = cellStart(10.5) + random.nextDouble() * CELL_DEGREES;
+                int dLat = random.nextInt(2 * ring + 1) - ring;
+                int dLng = Math.abs(dLat) == ring
+                        ? random.nextInt(2 * ring + 1) - ring
+                        : (random.nextBoolean() ? ring : -ring);
+                double otherLat = lat + dLat * CELL_DEGREES + (random.nextDouble() - 0.5) * CELL_DEGREES;
+                double otherLng = lng + dLng * CELL_DEGREES + (random.nextDouble() - 0.5) * CELL_DEGREES;
+                if (index.latIndex(otherLat) - index.latIndex(lat) != dLat
+                        || index.lngIndex(otherLng) - index.lngIndex(lng) != dLng) {
+                    continue; // jitter moved it into a neighbouring ring
+                }
+                double actual = HotelGeoIndex.haversineKm(lat, lng, otherLat, otherLng);
+                assertTrue(index.minDistanceKm(ring, lat) <= actual,
+                        "ring " + ring + " bound above true distance at latitude " + lat);
+            }
+        }
+    }
+
+    @Test
+    void upsertMovesAndRemoveForgets() {
+        HotelGeoIndex index = new HotelGeoIndex(CELL_DEGREES);
+        Hotel hotel = hotel(1L, 18.52, 73.85, "Italian", 4.5);
+        index.upsert(hotel);
+        hotel.setLatitude(18.60);
+        index.upsert(hotel);
+
+        assertEquals(List.of(), index.nearest(18.52, 73.85, 1, 5, null, null));
+        assertEquals(1, index.nearest(18.60, 73.85, 1, 5, null, null).size());
+
+        index.remove(1L);
+        assertEquals(0, index.size());
+        assertEquals(List.of(), index.nearest(18.60, 73.85, 1, 5, null, null));
+    }
+
+    private static double cellStart(double lat) {
+        return Math.floor(lat / CELL_DEGREES) * CELL_DEGREES + CELL_DEGREES / 1000;
+    }
+
+    private HotelGeoIndex index(List<Hotel> hotels) {
+        HotelGeoIndex index = new HotelGeoIndex(CELL_DEGREES);
+        index.rebuild(hotels);
+        return index;
+    }
+
+    private List<Hotel> scatter(int count, double lat, double lng, double spreadDegrees) {
+        List<Hotel> hotels = new ArrayList<>(count);
+        for (long id = 1; id <= count; id++) {
+            hotels.add(hotel(id,
+                    lat + (random.nextDouble() - 0.5) * spreadDegrees,
+                    lng + (random.nextDouble() - 0.5) * spreadDegrees,
+                    CUISINES[random.nextInt(CUISINES.length)],
+                    Math.round((3 + random.nextDouble() * 2) * 10) / 10.0));
+        }
+        return hotels;
+    }
+
+    private static Hotel hotel(Long id, double lat, double lng, String cuisine, double rating) {
+        Hotel hotel = new Hotel(id, "Hotel " + id, cuisine, "Somewhere", rating, 300, null);
+        hotel.setLatitude(lat);
+        hotel.setLongitude(lng);
+        return hotel;
+    }
+
+    private static List<Double> bruteForce(List<Hotel> hotels, double lat, double lng, double radiusKm, int k,
+                                           String cuisine, Double minRating) {
+        return hotels.stream()
+                .filter(h -> cuisine == null || CuisineTags.of(h.getCuisine()).contains(cuisine))
+                .filter(h -> minRating == null || h.getRating() >= minRating)
+                .map(h -> HotelGeoIndex.haversineKm(lat, lng, h.getLatitude(), h.getLongitude()))
+                .filter(distance -> distance <= radiusKm)
+                .sorted(Comparator.naturalOrder())
+                .limit(k)
+                .toList();
+    }
+
+    // Distances rather than ids, so ties between equidistant hotels cannot make the test flaky
+    private static void assertSameHits(List<Double> expected, List<NearbyHotelDTO> actual) {
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i), actual.get(i).getDistanceKm(), 0.0011);
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package com.fooddelivery.hotelservice.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.Test;
+
+import com.fooddelivery.hotelservice.DTO.HotelListResponseDTO;
+import com.fooddelivery.hotelservice.entity.Hotel;
+
+class HotelRatingIndexTest {
+
+    @Test
+    void topKOverallAndPerCuisine() {
+        HotelRatingIndex index = index(
+                hotel(1L, "Thai, Chinese", 4.2),
+                hotel(2L, "Italian", 4.8),
+                hotel(3L, "thai", 4.6),
+                hotel(4L, "Bakery", 3.9));
+
+        assertEquals(List.of(2L, 3L, 1L), ids(index.top(null, 3)));
+        assertEquals(List.of(3L, 1L), ids(index.top("  THAI ", 10)));
+        assertEquals(List.of(1L), ids(index.top("chinese", 10)));
+        assertEquals(List.of(), ids(index.top("mexican", 10)));
+    }
+
+    @Test
+    void lowerIdWinsATie() {
+        HotelRatingIndex index = index(hotel(7L, "Thai", 4.5), hotel(3L, "Thai", 4.5));
+        assertEquals(List.of(3L, 7L), ids(index.top("thai", 2)));
+    }
+
+    @Test
+    void deleteLetsTheNextHotelMoveUp() {
+        HotelRatingIndex index = index(hotel(1L, "Thai", 4.9), hotel(2L, "Thai", 4.5), hotel(3L, "Thai", 4.1));
+
+        index.remove(1L);
+
+        assertEquals(List.of(2L, 3L), ids(index.top("thai", 2)));
+        assertEquals(List.of(2L, 3L), ids(index.top(null, 2)));
+    }
+
+    @Test
+    void ratingDropReordersWithoutLosingTheHotel() {
+        HotelRatingIndex index = index(hotel(1L, "Thai", 4.9), hotel(2L, "Thai", 4.5), hotel(3L, "Thai", 4.1));
+
+        index.upsert(hotel(1L, "Thai", 3.0));
+
+        assertEquals(List.of(2L, 3L), ids(index.top("thai", 2)));
+        assertEquals(List.of(2L, 3L, 1L), ids(index.top("thai", 10)));
+    }
+
+    @Test
+    void cuisineChangeMovesTheHotelBetweenScopes() {
+        HotelRatingIndex index = index(hotel(1L, "Thai", 4.9), hotel(2L, "Italian", 4.5));
+
+        index.upsert(hotel(1L, "Italian", 4.9));
+
+        assertEquals(List.of(), ids(index.top("thai", 10)));
+        assertEquals(List.of(1L, 2L), ids(index.top("italian", 10)));
+    }
+
+    @Test
+    void rebuildReplacesEverything() {
+        HotelRatingIndex index = index(hotel(1L, "Thai", 4.9));
+
+        index.rebuild(List.of(hotel(2L, "Italian", 4.0)));
+
+        assertEquals(List.of(), ids(index.top("thai", 10)));
+        assertEquals(List.of(2L), ids(index.top(null, 10)));
+    }
+
+    @Test
+    void readersNeverSeeAHalfBuiltIndex() throws InterruptedException {
+        List<Hotel> hotels = new ArrayList<>();
+        for (long id = 1; id <= 2_000; id++) {
+            hotels.add(hotel(id, id % 2 == 0 ? "Thai" : "Italian", 3 + (id % 20) / 10.0));
+        }
+        HotelRatingIndex index = index(hotels.toArray(Hotel[]::new));
+
+        AtomicBoolean done = new AtomicBoolean();
+        AtomicBoolean sawGap = new AtomicBoolean();
+        Thread reader = new Thread(() -> {
+            while (!done.get()) {
+                if (index.top("thai", 10).size() != 10 || index.top(null, 10).size() != 10) {
+                    sawGap.set(true);
+                }
+            }
+        });
+        reader.start();
+        for (int i = 0; i < 50; i++) {
+            index.rebuild(hotels);
+        }
+        done.set(true);
+        reader.join();
+
+        assertFalse(sawGap.get(), "a reader saw an empty or partial index during rebuild");
+    }
+
+    private static HotelRatingIndex index(Hotel... hotels) {
+        HotelRatingIndex index = new HotelRatingIndex();
+        index.rebuild(List.of(hotels));
+        return index;
+    }
+
+    private static Hotel hotel(Long id, String cuisine, double rating) {
+        return new Hotel(id, "Hotel " + id, cuisine, "Pune", rating, 300, null);
+    }
+
+    private static List<Long> ids(List<HotelListResponseDTO> hotels) {
+        return hotels.stream().map(HotelListResponseDTO::getId).toList();
+    }
+}
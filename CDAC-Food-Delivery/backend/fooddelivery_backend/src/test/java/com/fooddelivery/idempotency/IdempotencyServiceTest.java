@@ -0,0 +1,79 @@
+package com.fooddelivery.idempotency;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class IdempotencyServiceTest {
+
+    private final IdempotencyRecordRepository repository = mock(IdempotencyRecordRepository.class);
+    private final AtomicReference<IdempotencyRecord> row = new AtomicReference<>();
+    private final IdempotencyService service = new IdempotencyService(repository, new ObjectMapper(),
+            mock(PlatformTransactionManager.class), 100, Duration.ofMinutes(10), Duration.ofSeconds(5),
+            Duration.ofDays(1), Duration.ofSeconds(30));
+
+    IdempotencyServiceTest() {
+        when(repository.saveAndFlush(any(IdempotencyRecord.class))).thenAnswer(invocation -> {
+            row.set(invocation.getArgument(0));
+            return row.get();
+        });
+        when(repository.findByScopeAndIdempotencyKey("orders", "k1"))
+                .thenAnswer(invocation -> Optional.ofNullable(row.get()));
+    }
+
+    @Test
+    void pendingOutcomeKeepsTheKeyAndARetryGetsTheRealResponse() {
+        CompletableFuture<ResponseEntity<?>> outcome = new CompletableFuture<>();
+        AtomicInteger writes = new AtomicInteger();
+        Map<String, Object> request = Map.of("total", 10);
+
+        assertThrows(OutcomePendingException.class, () -> service.execute("orders", "k1", request, () -> {
+            writes.incrementAndGet();
+            throw new OutcomePendingException("not confirmed yet", outcome);
+        }));
+        verify(repository, never()).delete(any());
+        assertEquals(IdempotencyRecord.IN_PROGRESS, row.get().getStatus());
+
+        // The write the caller gave up on commits after all
+        outcome.complete(ResponseEntity.ok(Map.of("id", 42)));
+
+        ResponseEntity<?> retry = service.execute("orders", "k1", request, () -> {
+            writes.incrementAndGet();
+            return ResponseEntity.ok(Map.of("id", 43));
+        });
+        assertEquals(1, writes.get());
+        assertEquals("true", retry.getHeaders().getFirst("Idempotent-Replayed"));
+        assertEquals(42, ((JsonNode) retry.getBody()).get("id").asInt());
+        assertEquals(IdempotencyRecord.COMPLETED, row.get().getStatus());
+    }
+
+    @Test
+    void pendingOutcomeThatFailsReleasesTheKey() {
+        CompletableFuture<ResponseEntity<?>> outcome = new CompletableFuture<>();
+
+        assertThrows(OutcomePendingException.class, () -> service.execute("orders", "k1", Map.of(), () -> {
+            throw new OutcomePendingException("not confirmed yet", outcome);
+        }));
+        outcome.completeExceptionally(new IllegalStateException("batch rolled back"));
+
+        verify(repository, timeout(5000)).delete(any(IdempotencyRecord.class));
+    }
+}
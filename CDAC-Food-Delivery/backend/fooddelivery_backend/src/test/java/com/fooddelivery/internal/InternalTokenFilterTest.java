@@ -0,0 +1,31 @@
+package com.fooddelivery.internal;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class InternalTokenFilterTest {
+
+    @Test
+    void devTokenIsAcceptedOnlyForLocalRuns() {
+        assertDoesNotThrow(() -> new InternalTokenFilter(InternalTokenFilter.DEV_TOKEN, new MockEnvironment()));
+        assertDoesNotThrow(() -> new InternalTokenFilter(InternalTokenFilter.DEV_TOKEN, profiles("dev")));
+
+        assertThrows(IllegalStateException.class,
+                () -> new InternalTokenFilter(InternalTokenFilter.DEV_TOKEN, profiles("docker")));
+    }
+
+    @Test
+    void realTokenIsAcceptedEverywhere() {
+        assertDoesNotThrow(() -> new InternalTokenFilter("3f9c0a7e51d2", profiles("docker")));
+        assertThrows(IllegalStateException.class, () -> new InternalTokenFilter(" ", new MockEnvironment()));
+    }
+
+    private static MockEnvironment profiles(String... active) {
+        MockEnvironment environment = new MockEnvironment();
+        environment.setActiveProfiles(active);
+        return environment;
+    }
+}
@@ -0,0 +1,34 @@
+package com.fooddelivery.orderservice;
+
+import com.fooddelivery.clients.MenuServiceClient;
+import com.fooddelivery.clients.dto.MenuSummaryDTO;
+
+import java.util.Collection;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.when;
+
+/**
+ * Stands in for menu-service in the benchmarks: every menu item id is an
+ * available dish of HOTEL_ID priced at PRICE, so OrderPricer works without a
+ * running menu-service and pricing cost stays out of the measurements.
+ */
+final class MenuPricingStub {
+
+    static final long HOTEL_ID = 1L;
+    static final int PRICE = 100;
+
+    private MenuPricingStub() {
+    }
+
+    static void stub(MenuServiceClient menuServiceClient) {
+        when(menuServiceClient.getMenusByIds(anyCollection())).thenAnswer(invocation -> {
+            Collection<Long> ids = invocation.getArgument(0);
+            List<MenuSummaryDTO> menus = ids.stream()
+                    .map(id -> new MenuSummaryDTO(id, HOTEL_ID, "Benchmark item " + id, PRICE, "VEG", true))
+                    .toList();
+            return menus;
+        });
+    }
+}
@@ -0,0 +1,91 @@
+package com.fooddelivery.orderservice;
+
+import com.fooddelivery.FooddeliveryBackendApplication;
+import com.fooddelivery.clients.MenuServiceClient;
+import com.fooddelivery.orderservice.entity.Order;
+import com.fooddelivery.orderservice.entity.OrderItem;
+import com.fooddelivery.orderservice.service.OrderService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Measures statements and latency for a 20-item order against a real MySQL.
+ * Menu prices come from MenuPricingStub, not a running menu-service.
+ * Run with: mvn test -Dtest=OrderInsertBenchmarkTest -Dbenchmark=true
+ * (run the same command on an older checkout to get the "before" numbers).
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+@SpringBootTest(classes = FooddeliveryBackendApplication.class, properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.jpa.show-sql=false",
+        "eureka.client.enabled=false"
+})
+class OrderInsertBenchmarkTest {
+
+    private static final int WARMUP = 50;
+    private static final int ORDERS = 500;
+    private static final int ITEMS_PER_ORDER = 20;
+
+    @Autowired
+    private OrderService orderService;
+
+    @MockBean
+    private MenuServiceClient menuServiceClient;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @BeforeEach
+    void stubPricing() {
+        MenuPricingStub.stub(menuServiceClient);
+    }
+
+    @Test
+    void groupOrderInsertCost() {
+        Statistics stats = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        for (int i = 0; i < WARMUP; i++) {
+            orderService.createOrder(groupOrder(i));
+        }
+        stats.clear();
+
+        long[] nanos = new long[ORDERS];
+        for (int i = 0; i < ORDERS; i++) {
+            long start = System.nanoTime();
+            orderService.createOrder(groupOrder(i));
+            nanos[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(nanos);
+
+        System.out.printf("orders=%d items/order=%d statements/order=%.2f p50=%.2fms p99=%.2fms%n",
+                ORDERS, ITEMS_PER_ORDER,
+                stats.getPrepareStatementCount() / (double) ORDERS,
+                nanos[ORDERS / 2] / 1e6,
+                nanos[(int) (ORDERS * 0.99)] / 1e6);
+    }
+
+    private Order groupOrder(int n) {
+        List<OrderItem> items = new ArrayList<>();
+        for (int i = 0; i < ITEMS_PER_ORDER; i++) {
+            items.add(new OrderItem(null, "Benchmark item " + i, 100.0, 1, (long) i + 1));
+        }
+        Order order = new Order();
+        order.setUserEmail("benchmark+" + (n % 10) + "@fooddelivery.test");
+        order.setTotalAmount(100.0 * ITEMS_PER_ORDER);
+        order.setPaymentMethod("COD");
+        order.setDeliveryAddress("Benchmark Street");
+        order.setItems(items);
+        return order;
+    }
+}
@@ -0,0 +1,103 @@
+package com.fooddelivery.orderservice;
+
+import com.fooddelivery.FooddeliveryBackendApplication;
+import com.fooddelivery.clients.MenuServiceClient;
+import com.fooddelivery.orderservice.entity.Order;
+import com.fooddelivery.orderservice.entity.OrderItem;
+import com.fooddelivery.orderservice.enums.OrderStatus;
+import com.fooddelivery.orderservice.service.OrderService;
+import com.fooddelivery.orderservice.service.OrderStatusConflictException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Races several kitchen/rider updates against the same orders on a real MySQL:
+ * exactly one transition per order and step must win, the rest must be
+ * reported as conflicts.
+ * Run with: mvn test -Dtest=OrderStatusTransitionLoadTest -Dbenchmark=true
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+@SpringBootTest(classes = FooddeliveryBackendApplication.class, properties = {
+        "spring.jpa.show-sql=false",
+        "eureka.client.enabled=false"
+})
+class OrderStatusTransitionLoadTest {
+
+    private static final int ORDERS = 200;
+    private static final int CONTENDERS = 8;
+
+    @Autowired
+    private OrderService orderService;
+
+    @MockBean
+    private MenuServiceClient menuServiceClient;
+
+    @BeforeEach
+    void stubPricing() {
+        MenuPricingStub.stub(menuServiceClient);
+    }
+
+    @Test
+    void concurrentTransitionsNeverLoseUpdates() throws Exception {
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < ORDERS; i++) {
+            ids.add(orderService.createOrder(order(i)).getId());
+        }
+
+        ExecutorService pool = Executors.newFixedThreadPool(CONTENDERS);
+        AtomicInteger wins = new AtomicInteger();
+        AtomicInteger conflicts = new AtomicInteger();
+        long start = System.nanoTime();
+
+        for (OrderStatus step : List.of(OrderStatus.PREPARING, OrderStatus.OUT_FOR_DELIVERY, OrderStatus.DELIVERED)) {
+            OrderStatus from = step == OrderStatus.PREPARING ? OrderStatus.PLACED
+                    : step == OrderStatus.OUT_FOR_DELIVERY ? OrderStatus.PREPARING : OrderStatus.OUT_FOR_DELIVERY;
+            List<Callable<Void>> tasks = new ArrayList<>();
+            for (Long id : ids) {
+                for (int c = 0; c < CONTENDERS; c++) {
+                    tasks.add(() -> {
+                        try {
+                            orderService.updateStatus(id, step, from);
+                            wins.incrementAndGet();
+                        } catch (OrderStatusConflictException e) {
+                            conflicts.incrementAndGet();
+                        }
+                        return null;
+                    });
+                }
+            }
+            for (Future<Void> f : pool.invokeAll(tasks)) {
+                f.get();
+            }
+        }
+        pool.shutdown();
+
+        double seconds = (System.nanoTime() - start) / 1e9;
+        int attempts = ORDERS * CONTENDERS * 3;
+        System.out.printf("attempts=%d wins=%d conflicts=%d throughput=%.0f transitions/s%n",
+                attempts, wins.get(), conflicts.get(), attempts / seconds);
+
+        assertEquals(ORDERS * 3, wins.get());
+        assertEquals(attempts - ORDERS * 3, conflicts.get());
+    }
+
+    private Order order(int n) {
+        Order order = new Order();
+        order.setUserEmail("loadtest+" + (n % 10) + "@fooddelivery.test");
+        order.setPaymentMethod("COD");
+        order.setDeliveryAddress("Load Test Street");
+        order.setItems(new ArrayList<>(List.of(new OrderItem(null, "Load test item", 150.0, 2, 1L))));
+        return order;
+    }
+}
@@ -0,0 +1,68 @@
+package com.fooddelivery.orderservice.controller;
+
+import com.fooddelivery.orderservice.entity.Order;
+import com.fooddelivery.orderservice.enums.OrderStatus;
+import com.fooddelivery.orderservice.service.OrderNotFoundException;
+import com.fooddelivery.orderservice.service.OrderService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.http.MediaType;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class OrderControllerTest {
+
+    private static final String PREPARING = "{\"status\":\"Preparing\"}";
+
+    private final OrderService orderService = mock(OrderService.class);
+    private MockMvc mvc;
+
+    @BeforeEach
+    void setUp() {
+        OrderController controller = new OrderController();
+        ReflectionTestUtils.setField(controller, "orderService", orderService);
+        mvc = MockMvcBuilders.standaloneSetup(controller).build();
+    }
+
+    @Test
+    void statusAcceptsPutAndPatch() throws Exception {
+        when(orderService.updateStatus(1L, OrderStatus.PREPARING, null)).thenReturn(new Order());
+
+        mvc.perform(put("/api/orders/1/status").contentType(MediaType.APPLICATION_JSON).content(PREPARING))
+                .andExpect(status().isOk());
+        mvc.perform(patch("/api/orders/1/status").contentType(MediaType.APPLICATION_JSON).content(PREPARING))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void unknownOrderIs404AndIllegalTransitionIs400() throws Exception {
+        when(orderService.updateStatus(1L, OrderStatus.PREPARING, null)).thenThrow(new OrderNotFoundException(1L));
+        when(orderService.updateStatus(2L, OrderStatus.PREPARING, null))
+                .thenThrow(new IllegalArgumentException("Cannot move order from Delivered to Preparing"));
+
+        mvc.perform(patch("/api/orders/1/status").contentType(MediaType.APPLICATION_JSON).content(PREPARING))
+                .andExpect(status().isNotFound());
+        mvc.perform(patch("/api/orders/2/status").contentType(MediaType.APPLICATION_JSON).content(PREPARING))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void databaseFailureIsNotReportedAsNotFound() {
+        when(orderService.updateStatus(1L, OrderStatus.PREPARING, null))
+                .thenThrow(new DataAccessResourceFailureException("connection refused"));
+
+        Exception e = assertThrows(Exception.class, () -> mvc.perform(
+                patch("/api/orders/1/status").contentType(MediaType.APPLICATION_JSON).content(PREPARING)));
+        assertInstanceOf(DataAccessResourceFailureException.class, e.getCause());
+    }
+}
@@ -0,0 +1,73 @@
+package com.fooddelivery.orderservice.service;
+
+import com.fooddelivery.orderservice.entity.Order;
+import com.fooddelivery.orderservice.events.OrderEventPublisher;
+import com.fooddelivery.orderservice.repository.OrderRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class OrderGroupCommitWriterTest {
+
+    private final OrderRepository orderRepository = mock(OrderRepository.class);
+    private final CountDownLatch writerHasIt = new CountDownLatch(1);
+    private final CountDownLatch letItCommit = new CountDownLatch(1);
+    private OrderGroupCommitWriter writer;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        letItCommit.countDown();
+        writer.stop();
+    }
+
+    @Test
+    void timeoutAfterTheWriterTookTheOrderHandsBackItsRealOutcome() throws Exception {
+        Order saved = new Order();
+        saved.setId(42L);
+        when(orderRepository.save(any(Order.class))).thenAnswer(invocation -> {
+            writerHasIt.countDown();
+            assertTrue(letItCommit.await(5, TimeUnit.SECONDS));
+            return saved;
+        });
+        writer = writer(Duration.ofMillis(200));
+
+        OrderWriteTimeoutException timeout = assertThrows(OrderWriteTimeoutException.class,
+                () -> writer.write(new Order()));
+
+        // The caller did not write it a second time, and the outcome is still open
+        assertTrue(writerHasIt.await(0, TimeUnit.SECONDS));
+        assertFalse(timeout.getOutcome().isDone());
+        verify(orderRepository, times(1)).save(any(Order.class));
+
+        letItCommit.countDown();
+        assertEquals(42L, timeout.getOutcome().get(5, TimeUnit.SECONDS).getId());
+        verify(orderRepository, times(1)).save(any(Order.class));
+    }
+
+    @SuppressWarnings("unchecked")
+    private OrderGroupCommitWriter writer(Duration writeTimeout) {
+        TransactionTemplate transactionTemplate = mock(TransactionTemplate.class);
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                ((TransactionCallback<Object>) invocation.getArgument(0)).doInTransaction(null));
+        OrderGroupCommitWriter writer = new OrderGroupCommitWriter(orderRepository, mock(OrderEventPublisher.class),
+                transactionTemplate, new SimpleMeterRegistry(), true, 1, Duration.ZERO, 16, writeTimeout);
+        writer.start();
+        return writer;
+    }
+}
@@ -0,0 +1,114 @@
+package com.fooddelivery.orderservice.service;
+
+import com.fooddelivery.orderservice.archive.ArchivedOrder;
+import com.fooddelivery.orderservice.archive.ArchivedOrderRepository;
+import com.fooddelivery.orderservice.dto.OrderPageResponse;
+import com.fooddelivery.orderservice.entity.Order;
+import com.fooddelivery.orderservice.enums.OrderStatus;
+import com.fooddelivery.orderservice.events.OrderEventPublisher;
+import com.fooddelivery.orderservice.pricing.OrderPricer;
+import com.fooddelivery.orderservice.repository.OrderRepository;
+import com.fooddelivery.orderservice.stream.OrderStreamRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Limit;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class OrderServiceImplTest {
+
+    private static final String EMAIL = "user@example.com";
+    private static final LocalDateTime JAN = LocalDateTime.of(2026, 1, 10, 12, 0);
+
+    @Test
+    void historyKeepsArchivedOrdersNewerThanAnOldUnfinishedOne() {
+        // Stuck in PREPARING since January, so the archiver leaves it in the hot table
+        List<Order> hot = List.of(order(1L, JAN, OrderStatus.PREPARING), order(6L, JAN.plusMonths(5), OrderStatus.PLACED));
+        List<ArchivedOrder> archived = List.of(
+                archived(2L, JAN.plusMonths(1)), archived(3L, JAN.plusMonths(2)),
+                archived(4L, JAN.plusMonths(3)), archived(5L, JAN.plusMonths(4)));
+        OrderServiceImpl service = service(hot, archived);
+
+        List<Long> seen = new ArrayList<>();
+        String token = null;
+        do {
+            OrderPageResponse page = service.getOrdersByUser(EMAIL, token, 2);
+            page.getOrders().forEach(o -> seen.add(o.getId()));
+            token = page.getNextPageToken();
+        } while (token != null);
+
+        assertEquals(List.of(6L, 5L, 4L, 3L, 2L, 1L), seen);
+    }
+
+    @Test
+    void lastPageHasNoToken() {
+        OrderServiceImpl service = service(List.of(order(1L, JAN, OrderStatus.PLACED)),
+                List.of(archived(2L, JAN.minusDays(1))));
+
+        OrderPageResponse page = service.getOrdersByUser(EMAIL, null, 2);
+
+        assertEquals(List.of(1L, 2L), page.getOrders().stream().map(Order::getId).toList());
+        assertNull(page.getNextPageToken());
+    }
+
+    // Repositories that answer the keyset queries from fixed lists
+    private static OrderServiceImpl service(List<Order> hot, List<ArchivedOrder> archived) {
+        OrderRepository orders = mock(OrderRepository.class);
+        when(orders.findByUserEmailOrderByOrderDateDescIdDesc(eq(EMAIL), any(Limit.class)))
+                .thenAnswer(inv -> page(hot, Order::getOrderDate, Order::getId, null, null, inv.getArgument(1)));
+        when(orders.findPageAfter(eq(EMAIL), any(), any(), any(Limit.class)))
+                .thenAnswer(inv -> page(hot, Order::getOrderDate, Order::getId,
+                        inv.getArgument(1), inv.getArgument(2), inv.getArgument(3)));
+
+        ArchivedOrderRepository archive = mock(ArchivedOrderRepository.class);
+        when(archive.findByUserEmailOrderByOrderDateDescIdDesc(eq(EMAIL), any(Limit.class)))
+                .thenAnswer(inv -> page(archived, ArchivedOrder::getOrderDate, ArchivedOrder::getId,
+                        null, null, inv.getArgument(1)));
+        when(archive.findPageAfter(eq(EMAIL), any(), any(), any(Limit.class)))
+                .thenAnswer(inv -> page(archived, ArchivedOrder::getOrderDate, ArchivedOrder::getId,
+                        inv.getArgument(1), inv.getArgument(2), inv.getArgument(3)));
+
+        return new OrderServiceImpl(orders, archive, mock(OrderPricer.class), mock(OrderGroupCommitWriter.class),
+                mock(OrderEventPublisher.class), mock(OrderStreamRegistry.class));
+    }
+
+    private static <T> List<T> page(List<T> rows, Function<T, LocalDateTime> date, Function<T, Long> id,
+                                    LocalDateTime afterDate, Long afterId, Limit limit) {
+        return rows.stream()
+                .filter(r -> afterDate == null || date.apply(r).isBefore(afterDate)
+                        || (date.apply(r).equals(afterDate) && id.apply(r) < afterId))
+                .sorted(Comparator.comparing(date).thenComparing(id).reversed())
+                .limit(limit.max())
+                .toList();
+    }
+
+    private static Order order(Long id, LocalDateTime date, OrderStatus status) {
+        Order order = new Order();
+        order.setId(id);
+        order.setUserEmail(EMAIL);
+        order.setStatus(status);
+        order.setOrderDate(date);
+        order.setItems(List.of());
+        return order;
+    }
+
+    private static ArchivedOrder archived(Long id, LocalDateTime date) {
+        ArchivedOrder order = new ArchivedOrder();
+        order.setId(id);
+        order.setUserEmail(EMAIL);
+        order.setStatus(OrderStatus.DELIVERED);
+        order.setOrderDate(date);
+        order.setItems(List.of());
+        return order;
+    }
+}
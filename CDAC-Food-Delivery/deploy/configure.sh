@@ -161,12 +161,14 @@ configure_interactive() {
     MYSQL_ROOT_PASS=$(generate_password 24)
     MYSQL_USER_PASS=$(generate_password 24)
     JWT_SECRET=$(generate_secret 32)
+    INTERNAL_TOKEN=$(generate_secret 32)
     ADMIN_JWT_KEY=$(generate_password 32)
     
     # Update .env file
     sed -i "s/^MYSQL_ROOT_PASSWORD=.*/MYSQL_ROOT_PASSWORD=$MYSQL_ROOT_PASS/" "$ENV_FILE"
     sed -i "s/^MYSQL_PASSWORD=.*/MYSQL_PASSWORD=$MYSQL_USER_PASS/" "$ENV_FILE"
     sed -i "s/^JWT_SECRET=.*/JWT_SECRET=$JWT_SECRET/" "$ENV_FILE"
+    sed -i "s/^INTERNAL_TOKEN=.*/INTERNAL_TOKEN=$INTERNAL_TOKEN/" "$ENV_FILE"
     sed -i "s/^ADMIN_JWT_KEY=.*/ADMIN_JWT_KEY=$ADMIN_JWT_KEY/" "$ENV_FILE"
     
     log_success "Configuration updated with secure passwords"
@@ -300,7 +302,7 @@ validate_env() {
     local errors=0
     
     # Check required variables
-    local required_vars=("DOMAIN" "SSL_EMAIL" "MYSQL_ROOT_PASSWORD" "MYSQL_USER" "MYSQL_PASSWORD" "JWT_SECRET")
+    local required_vars=("DOMAIN" "SSL_EMAIL" "MYSQL_ROOT_PASSWORD" "MYSQL_USER" "MYSQL_PASSWORD" "JWT_SECRET" "INTERNAL_TOKEN")
     
     for var in "${required_vars[@]}"; do
         if [ -z "${!var}" ]; then
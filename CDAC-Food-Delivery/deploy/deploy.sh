@@ -99,7 +99,7 @@ preflight_checks() {
         # Validate required environment variables
         source "$PROJECT_ROOT/.env"
         
-        local required_vars=("DOMAIN" "MYSQL_ROOT_PASSWORD" "MYSQL_USER" "MYSQL_PASSWORD" "JWT_SECRET")
+        local required_vars=("DOMAIN" "MYSQL_ROOT_PASSWORD" "MYSQL_USER" "MYSQL_PASSWORD" "JWT_SECRET" "INTERNAL_TOKEN")
         local missing_vars=()
         
         for var in "${required_vars[@]}"; do
@@ -29,6 +29,7 @@ export const API_ENDPOINTS = {
     ORDERS: {
         BASE: `${API_BASE_URL}/api/orders`,
         BY_ID: (id) => `${API_BASE_URL}/api/orders/${id}`,
+        QUOTE: `${API_BASE_URL}/api/orders/quote`,
     },
 
     PAYMENTS: {
@@ -1,4 +1,4 @@
-import React, { useState, useEffect } from "react";
+import React, { useState, useEffect, useRef } from "react";
 import { useCart } from "../context/CartContext";
 import { useAuth } from "../context/AuthContext";
 import axios from "axios";
@@ -12,6 +12,8 @@ function Payment() {
   const navigate = useNavigate();
   const [loading, setLoading] = useState(false);
   const [method, setMethod] = useState("card");
+  // One key per checkout so network retries never create a second order/payment
+  const checkoutKey = useRef(crypto.randomUUID());
 
   const RAZORPAY_KEY_ID = "rzp_test_1DP5mmOlF5G5ag";
   const [card, setCard] = useState({
@@ -29,9 +31,31 @@ function Payment() {
     }
   }, [user]);
 
-  const deliveryFee = totalPrice > 500 ? 0 : 29;
-  const platformFee = 10;
-  const finalTotal = totalPrice + deliveryFee + platformFee;
+  // Prices come from the server; the amounts below are only shown, never charged
+  const [quote, setQuote] = useState(null);
+  const orderItems = cartItems.map(item => ({
+    menuItemId: item.id,
+    name: item.name,
+    quantity: item.quantity
+  }));
+
+  useEffect(() => {
+    if (cartItems.length === 0) {
+      setQuote(null);
+      return;
+    }
+    axios.post(API_ENDPOINTS.ORDERS.QUOTE, { items: orderItems })
+      .then(({ data }) => setQuote(data))
+      .catch((error) => {
+        setQuote(null);
+        toast.error(error.response?.data || "Could not price your cart");
+      });
+  }, [cartItems]);
+
+  const itemTotal = quote ? quote.subtotal : totalPrice;
+  const deliveryFee = quote ? quote.deliveryFee : (totalPrice > 500 ? 0 : 29);
+  const platformFee = quote ? quote.platformFee : 10;
+  const finalTotal = quote ? quote.totalAmount : totalPrice + deliveryFee + platformFee;
 
   const handleCardChange = (e) => {
     const { name, value } = e.target;
@@ -40,10 +64,11 @@ function Payment() {
 
   const handleRazorpayPayment = async () => {
     try {
+      // The server prices the cart and creates the payment for that amount
       const { data } = await axios.post(API_ENDPOINTS.PAYMENTS.CREATE, {
-        amount: finalTotal,
+        items: orderItems,
         currency: "INR"
-      });
+      }, { headers: { "Idempotency-Key": `${checkoutKey.current}-payment` } });
 
       const options = {
         key: RAZORPAY_KEY_ID,
@@ -59,7 +84,7 @@ function Payment() {
               razorpayPaymentId: response.razorpay_payment_id,
               razorpaySignature: response.razorpay_signature,
               email: user.email,
-              amount: finalTotal
+              amount: data.amount
             });
             await finalizeOrder();
           } catch (e) {
@@ -93,7 +118,7 @@ function Payment() {
               razorpayOrderId: data.orderId,
               razorpayPaymentId: "mock_pay_" + Date.now(),
               razorpaySignature: "mock_sig_" + Date.now(),
-              amount: finalTotal,
+              amount: data.amount,
               email: user.email
             });
 
@@ -126,17 +151,14 @@ function Payment() {
     try {
       const orderData = {
         userEmail: user.email,
-        totalAmount: finalTotal,
         paymentMethod: method.toUpperCase(),
         deliveryAddress: deliveryAddress.trim(),
-        items: cartItems.map(item => ({
-          name: item.name,
-          price: item.price,
-          quantity: item.quantity
-        }))
+        items: orderItems
       };
 
-      const response = await axios.post(API_ENDPOINTS.ORDERS.BASE, orderData);
+      const response = await axios.post(API_ENDPOINTS.ORDERS.BASE, orderData, {
+        headers: { "Idempotency-Key": `${checkoutKey.current}-order` }
+      });
 
       if (response.status === 200) {
         toast.success(`Order placed successfully! ID: ${response.data.id} 🍛`);
@@ -156,6 +178,11 @@ function Payment() {
       return;
     }
 
+    if (!quote) {
+      toast.error("Your cart could not be priced yet, please try again");
+      return;
+    }
+
     setLoading(true);
 
     if (method === "cod") {
@@ -349,7 +376,7 @@ function Payment() {
 
             <button
               type="submit"
-              disabled={loading}
+              disabled={loading || !quote}
               style={{
                 width: "100%",
                 padding: "16px 0",
@@ -408,7 +435,7 @@ function Payment() {
           </div>
 
           <div style={{ borderTop: "1px dashed #d4d4e0", paddingTop: 10 }}>
-            <Row label="Item Total" value={`₹${totalPrice}`} />
+            <Row label="Item Total" value={`₹${itemTotal}`} />
             <Row label="Delivery Fee" value={deliveryFee === 0 ? "FREE" : `₹${deliveryFee}`} />
             <Row label="Platform Fee" value={`₹${platformFee}`} />
             <div
@@ -20,6 +20,11 @@ if errorlevel 1 (
 echo [INFO] Docker is running
 echo.
 
+REM Services authenticate /internal/** calls with this; one fresh secret per launch unless set
+if not defined INTERNAL_TOKEN (
+    for /f %%i in ('powershell -NoProfile -Command "[guid]::NewGuid().ToString('N') + [guid]::NewGuid().ToString('N')"') do set INTERNAL_TOKEN=%%i
+)
+
 REM Stop existing containers
 echo [STEP 1/4] Stopping existing containers...
 docker-compose down --remove-orphans
@@ -24,6 +24,11 @@ catch {
 
 Write-Host ""
 
+# Services authenticate /internal/** calls with this; one fresh secret per launch unless set
+if (-not $env:INTERNAL_TOKEN) {
+    $env:INTERNAL_TOKEN = [guid]::NewGuid().ToString("N") + [guid]::NewGuid().ToString("N")
+}
+
 # Stop existing containers
 Write-Host "[STEP 1/4] Stopping existing containers..." -ForegroundColor Yellow
 docker-compose down --remove-orphans 2>&1 | Out-Null
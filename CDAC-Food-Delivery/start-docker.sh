@@ -20,6 +20,11 @@ fi
 echo "[OK] Docker is running"
 echo ""
 
+# Services authenticate /internal/** calls with this; one fresh secret per launch unless set
+if [ -z "$INTERNAL_TOKEN" ]; then
+    export INTERNAL_TOKEN=$(openssl rand -hex 32 2>/dev/null || head -c 32 /dev/urandom | od -An -tx1 | tr -d ' \n')
+fi
+
 # Stop existing containers
 echo "[STEP 1/4] Stopping existing containers..."
 docker-compose down --remove-orphans
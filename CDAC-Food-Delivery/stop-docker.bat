@@ -9,6 +9,8 @@ echo    Stopping Food Delivery Application
 echo ============================================
 echo.
 
+REM Compose checks INTERNAL_TOKEN even when stopping; any value will do here
+if not defined INTERNAL_TOKEN set INTERNAL_TOKEN=stopping
 docker-compose down
 
 echo.